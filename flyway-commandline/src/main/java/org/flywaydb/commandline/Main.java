@@ -38,6 +38,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import lombok.SneakyThrows;
@@ -45,6 +46,7 @@ import org.flywaydb.commandline.configuration.CommandLineArguments;
 import org.flywaydb.commandline.configuration.ConfigurationManagerImpl;
 import org.flywaydb.commandline.logging.console.ConsoleLog.Level;
 import org.flywaydb.core.Flyway;
+import org.flywaydb.core.FlywayExecutor;
 import org.flywaydb.core.FlywayTelemetryManager;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.MigrationFilter;
@@ -89,6 +91,16 @@ import org.flywaydb.core.internal.util.TelemetryUtils;
 public class Main {
     private static Log LOG;
     private static final PluginRegister PLUGIN_REGISTER = new PluginRegister();
+    /**
+     * The operations run by Flyway itself, as opposed to by command extensions.
+     */
+    private static final Set<String> CORE_OPERATIONS = Set.of("clean",
+        "baseline",
+        "migrate",
+        "validate",
+        "info",
+        "repair",
+        "undo");
     private static boolean hasPrintedLicense;
 
     public static void main(final String[] args) throws Exception {
@@ -237,22 +249,29 @@ public class Main {
         } else {
             final Collection<OperationResult> individualResults = new ArrayList<>(commandLineArguments.getOperations()
                 .size());
-            for (final String operation : commandLineArguments.getOperations()) {
-                printLicenseInfo(configuration, operation);
-                final OperationResult operationResult = executeOperation(flyway,
-                    operation,
-                    commandLineArguments,
-                    flywayTelemetryManager,
-                    executionConfiguration);
+            // Chained operations share the connection, scanned locations and resolved migrations they prepare
+            try (final FlywayExecutor.Session session = flyway.openSession()) {
+                for (final String operation : commandLineArguments.getOperations()) {
+                    printLicenseInfo(configuration, operation);
+                    final OperationResult operationResult = executeOperation(flyway,
+                        operation,
+                        commandLineArguments,
+                        flywayTelemetryManager,
+                        executionConfiguration);
+                    if (!CORE_OPERATIONS.contains(operation)) {
+                        // Command extensions change the database behind the session's back
+                        session.invalidate();
+                    }
 
-                if (operationResult == null) {
-                    continue;
-                }
+                    if (operationResult == null) {
+                        continue;
+                    }
 
-                individualResults.add(operationResult);
-                if (operationResult instanceof HtmlResult
-                    && ((HtmlResult) operationResult).exceptionObject instanceof FlywayMigrateException) {
-                    break;
+                    individualResults.add(operationResult);
+                    if (operationResult instanceof HtmlResult
+                        && ((HtmlResult) operationResult).exceptionObject instanceof FlywayMigrateException) {
+                        break;
+                    }
                 }
             }
             result = new CompositeResult<>(individualResults);
@@ -26,9 +26,13 @@ import java.util.Collection;
 import lombok.CustomLog;
 import lombok.Setter;
 import lombok.SneakyThrows;
+import org.flywaydb.core.FlywayExecutor.Invalidates;
 import org.flywaydb.core.api.CoreErrorCode;
 import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.MigrationInfo;
 import org.flywaydb.core.api.MigrationInfoService;
+import org.flywaydb.core.api.MigrationState;
+import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.callback.Callback;
 import org.flywaydb.core.api.callback.Event;
 import org.flywaydb.core.api.configuration.ClassicConfiguration;
@@ -45,14 +49,17 @@ import org.flywaydb.core.extensibility.Tier;
 import org.flywaydb.core.internal.Topic;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
 import org.flywaydb.core.internal.command.*;
+import org.flywaydb.core.internal.command.clean.CleanTemplate;
 import org.flywaydb.core.internal.command.clean.DbClean;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.database.base.Schema;
+import org.flywaydb.core.internal.info.MigrationInfoServiceImpl;
 import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
 import org.flywaydb.core.internal.util.CommandExtensionUtils;
 import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 import org.flywaydb.core.internal.util.StringUtils;
+import org.flywaydb.core.internal.util.ValidatePatternUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -81,6 +88,13 @@ public class Flyway {
     @Setter
     private FlywayTelemetryManager flywayTelemetryManager;
 
+    /**
+     * The template to create once the next migrate succeeds, as the last clean couldn't restore the database from it.
+     */
+    private CleanTemplatePlan pendingCleanTemplate;
+
+    private record CleanTemplatePlan(String key, CleanTemplate template, CleanResult cleanResult) {}
+
     /**
      * This is your starting point. This creates a configuration which can be customized to your needs before being
      * loaded into a new Flyway instance using the load() method.
@@ -137,6 +151,18 @@ public class Flyway {
         }
     }
 
+    /**
+     * Opens a session in which the operations called on this instance until it is closed share their database
+     * connection, callbacks, scanned locations and resolved migrations, instead of preparing them again for each
+     * operation. What an operation changes is prepared again for the next one, e.g. the schema history after migrate,
+     * or everything after clean.
+     *
+     * @return The session, to be closed once the operations are done.
+     */
+    public FlywayExecutor.Session openSession() {
+        return flywayExecutor.openSession();
+    }
+
     /**
      * @return The configuration that Flyway is using.
      */
@@ -166,6 +192,7 @@ public class Flyway {
                 final var verb = findVerbExtension(configuration, "migrate");
                 if (verb.isPresent()) {
                     LOG.debug("Native Connectors for migrate is set and a verb is present");
+                    flywayExecutor.invalidateSession();
                     final var result = (MigrateResult) verb.get().executeVerb(configuration);
                     telemetryModel.setFromMigrateResult(result);
                     return result;
@@ -175,7 +202,7 @@ public class Flyway {
             }
 
             try {
-                return flywayExecutor.execute((migrationResolver, schemaHistory, database, defaultSchema, schemas, callbackExecutor, statementInterceptor) -> {
+                final MigrateResult migrateResult = flywayExecutor.execute((migrationResolver, schemaHistory, database, defaultSchema, schemas, callbackExecutor, statementInterceptor) -> {
                     if (configuration.isValidateOnMigrate()) {
                         final Collection<ValidatePattern> ignorePatterns = new ArrayList<>(Arrays.asList(configuration.getIgnoreMigrationPatterns()));
                         ignorePatterns.add(ValidatePattern.fromPattern("*:pending"));
@@ -246,8 +273,11 @@ public class Flyway {
                     callbackExecutor.onOperationFinishEvent(Event.AFTER_MIGRATE_OPERATION_FINISH, result);
 
                     return result;
-                }, true, flywayTelemetryManager);
+                }, true, flywayTelemetryManager, Invalidates.SCHEMA_HISTORY);
+                saveCleanTemplate(migrateResult);
+                return migrateResult;
             } catch (final Exception e) {
+                pendingCleanTemplate = null;
                 telemetryModel.setException(e);
                 throw e;
             }
@@ -284,7 +314,7 @@ public class Flyway {
                 migrationInfoService.getInfoResult());
 
             return migrationInfoService;
-        }, true, flywayTelemetryManager);
+        }, true, flywayTelemetryManager, Invalidates.NOTHING);
     }
 
     /**
@@ -302,6 +332,7 @@ public class Flyway {
                 final var verb = findVerbExtension(configuration, "clean");
                 if (verb.isPresent()) {
                     LOG.debug("Native Connectors for clean is set and a verb is present");
+                    flywayExecutor.invalidateSession();
                     return (CleanResult) verb.get().executeVerb(configuration);
                 } else {
                     LOG.warn("Native Connectors for clean is set but no verb is present");
@@ -309,17 +340,32 @@ public class Flyway {
             }
 
             try {
-                return flywayExecutor.execute((migrationResolver, schemaHistory, database, defaultSchema, schemas, callbackExecutor, statementInterceptor) -> {
-                    final CleanResult cleanResult = doClean(database,
+                CleanTemplatePlan missingCleanTemplate = null;
+                if (DbClean.isTemplateModeConfigured(configuration) && !configuration.isCleanDisabled()) {
+                    pendingCleanTemplate = null;
+                    final CleanTemplatePlan plan = planCleanTemplate();
+                    if (plan != null) {
+                        if (restoreFromCleanTemplate(plan.template())) {
+                            return plan.cleanResult();
+                        }
+                        missingCleanTemplate = plan;
+                    }
+                }
+
+                final CleanResult cleanResult = flywayExecutor.execute((migrationResolver, schemaHistory, database, defaultSchema, schemas, callbackExecutor, statementInterceptor) -> {
+                    final CleanResult result = doClean(database,
                         schemaHistory,
                         defaultSchema,
                         schemas,
                         callbackExecutor);
 
-                    callbackExecutor.onOperationFinishEvent(Event.AFTER_CLEAN_OPERATION_FINISH, cleanResult);
+                    callbackExecutor.onOperationFinishEvent(Event.AFTER_CLEAN_OPERATION_FINISH, result);
 
-                    return cleanResult;
-                }, false, flywayTelemetryManager);
+                    return result;
+                }, false, flywayTelemetryManager, Invalidates.EVERYTHING);
+                // Only a database that was actually cleaned can be migrated into the template
+                pendingCleanTemplate = missingCleanTemplate;
+                return cleanResult;
             } catch (final Exception e) {
                 telemetryModel.setException(e);
                 throw e;
@@ -384,7 +430,7 @@ public class Flyway {
             callbackExecutor.onOperationFinishEvent(Event.AFTER_VALIDATE_OPERATION_FINISH, validateResult);
 
             return validateResult;
-        }, true, flywayTelemetryManager);
+        }, true, flywayTelemetryManager, Invalidates.NOTHING);
     }
 
     /**
@@ -402,6 +448,7 @@ public class Flyway {
                 final var verb = findVerbExtension(configuration, "baseline");
                 if (verb.isPresent()) {
                     LOG.debug("Native Connectors for baseline is set and a verb is present");
+                    flywayExecutor.invalidateSession();
                     return (BaselineResult) verb.get().executeVerb(configuration);
                 } else {
                     LOG.warn("Native Connectors for baseline is set but no verb is present");
@@ -425,7 +472,7 @@ public class Flyway {
                     callbackExecutor.onOperationFinishEvent(Event.AFTER_BASELINE_OPERATION_FINISH, baselineResult);
 
                     return baselineResult;
-                }, false, flywayTelemetryManager);
+                }, false, flywayTelemetryManager, Invalidates.SCHEMA_HISTORY);
             } catch (final Exception e) {
                 telemetryModel.setException(e);
                 throw e;
@@ -451,6 +498,7 @@ public class Flyway {
                 final var verb = findVerbExtension(configuration, "repair");
                 if (verb.isPresent()) {
                     LOG.debug("Native Connectors for repair is set and a verb is present");
+                    flywayExecutor.invalidateSession();
                     return (RepairResult) verb.get().executeVerb(configuration);
                 } else {
                     LOG.warn("Native Connectors for repair is set but no verb is present");
@@ -468,7 +516,7 @@ public class Flyway {
                     callbackExecutor.onOperationFinishEvent(Event.AFTER_REPAIR_OPERATION_FINISH, repairResult);
 
                     return repairResult;
-                }, true, flywayTelemetryManager);
+                }, true, flywayTelemetryManager, Invalidates.SCHEMA_HISTORY);
             } catch (final Exception e) {
                 telemetryModel.setException(e);
                 throw e;
@@ -492,6 +540,7 @@ public class Flyway {
             if (verb.isPresent()) {
                 try (final EventTelemetryModel ignored = new EventTelemetryModel("undo", flywayTelemetryManager)) {
                     LOG.debug("Native Connectors for undo is set and a verb is present");
+                    flywayExecutor.invalidateSession();
                     return (OperationResult) verb.get().executeVerb(configuration);
                 }
             } else {
@@ -499,6 +548,7 @@ public class Flyway {
             }
         }
         try {
+            flywayExecutor.invalidateSession();
             return runCommand("undo", Collections.emptyList());
         } catch (final FlywayException e) {
             if (e.getMessage().startsWith("No command extension found")) {
@@ -514,6 +564,113 @@ public class Flyway {
         return CommandExtensionUtils.runCommandExtension(configuration, command, flags);
     }
 
+    /**
+     * @return The template created by the current migrations, or {@code null} if the template clean mode isn't
+     * configured for this database or this database doesn't support templates.
+     */
+    private CleanTemplatePlan planCleanTemplate() {
+        return flywayExecutor.execute((migrationResolver, schemaHistory, database, defaultSchema, schemas, callbackExecutor, statementInterceptor) -> {
+            if (!DbClean.isTemplateMode(database)) {
+                return null;
+            }
+
+            final String key = DbClean.getTemplateKey(configuration, migrationResolver.resolveMigrations(configuration));
+            final CleanTemplate template = database.getCleanTemplate(key);
+            if (template == null) {
+                LOG.warn("Clean mode TEMPLATE is not supported for "
+                    + database.getDatabaseType().getName()
+                    + ". Cleaning instead.");
+                return null;
+            }
+
+            final CleanResult cleanResult = CommandResultFactory.createCleanResult(database.getCatalog());
+            for (final Schema schema : schemas) {
+                cleanResult.schemasCleaned.add(schema.getName());
+            }
+            return new CleanTemplatePlan(key, template, cleanResult);
+        }, true, flywayTelemetryManager, Invalidates.NOTHING);
+    }
+
+    /**
+     * Restores the database from this template, if it exists. Otherwise, it is created once the database has been
+     * cleaned and fully migrated.
+     *
+     * @return Whether the database was restored. If not, it still needs to be cleaned.
+     */
+    private boolean restoreFromCleanTemplate(final CleanTemplate template) {
+        try {
+            if (!template.exists()) {
+                LOG.info("No clean template "
+                    + template.getName()
+                    + " exists for the current migrations. Cleaning instead, and creating it after the next migrate.");
+                return false;
+            }
+        } catch (final FlywayException e) {
+            LOG.warn("Unable to check for clean template " + template.getName() + ". Cleaning instead: " + e.getMessage());
+            return false;
+        }
+
+        // The database can only be replaced once nothing is connected to it anymore
+        flywayExecutor.invalidateSession();
+        LOG.info("Restoring database from clean template " + template.getName() + "...");
+        template.restore();
+        return true;
+    }
+
+    /**
+     * Creates the template the last clean couldn't restore the database from, provided migrate has brought the
+     * database to the state the template is for: every migration it was keyed on applied successfully.
+     */
+    private void saveCleanTemplate(final MigrateResult migrateResult) {
+        final CleanTemplatePlan plan = pendingCleanTemplate;
+        pendingCleanTemplate = null;
+        if (plan == null || !migrateResult.success) {
+            return;
+        }
+
+        final boolean fullyMigrated = flywayExecutor.execute((migrationResolver, schemaHistory, database, defaultSchema, schemas, callbackExecutor, statementInterceptor) -> {
+            if (!plan.key().equals(DbClean.getTemplateKey(configuration,
+                migrationResolver.resolveMigrations(configuration)))) {
+                return false;
+            }
+
+            final MigrationInfoServiceImpl migrationInfoService = new MigrationInfoServiceImpl(migrationResolver,
+                schemaHistory,
+                database,
+                configuration,
+                MigrationVersion.LATEST,
+                true,
+                ValidatePatternUtils.getIgnoreAllPattern());
+            migrationInfoService.refresh();
+            for (final MigrationInfo migrationInfo : migrationInfoService.all()) {
+                final MigrationState state = migrationInfo.getState();
+                if (state.isFailed()
+                    || (state.isResolved() && !state.isApplied())
+                    || state == MigrationState.OUTDATED
+                    || state == MigrationState.UNDONE) {
+                    return false;
+                }
+            }
+            return true;
+        }, true, flywayTelemetryManager, Invalidates.NOTHING);
+        final CleanTemplate template = plan.template();
+        if (!fullyMigrated) {
+            LOG.info("Not creating clean template "
+                + template.getName()
+                + " as the database wasn't migrated to the latest version of the current migrations.");
+            return;
+        }
+
+        // The database can only be copied once nothing is connected to it anymore
+        flywayExecutor.invalidateSession();
+        LOG.info("Creating clean template " + template.getName() + "...");
+        try {
+            template.save();
+        } catch (final FlywayException e) {
+            LOG.warn("Unable to create clean template " + template.getName() + ": " + e.getMessage());
+        }
+    }
+
     private CleanResult doClean(final Database database,
         final SchemaHistory schemaHistory,
         final Schema defaultSchema,
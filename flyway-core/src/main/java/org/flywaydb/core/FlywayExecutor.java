@@ -61,6 +61,7 @@ import org.flywaydb.core.extensibility.ErrorOverrideInitializer;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.plugin.PluginRegister;
 import org.flywaydb.core.internal.resolver.CompositeMigrationResolver;
 import org.flywaydb.core.internal.resolver.script.ScriptMigrationResolver;
 import org.flywaydb.core.internal.resource.NoopResourceProvider;
@@ -72,7 +73,6 @@ import org.flywaydb.core.internal.schemahistory.SchemaHistoryFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
-import org.flywaydb.core.internal.strategy.RetryStrategy;
 import org.flywaydb.core.internal.util.DeprecationUtils.DeprecatedFeatures;
 import org.flywaydb.core.internal.util.FileUtils;
 import org.flywaydb.core.internal.util.IOUtils;
@@ -111,6 +111,113 @@ public class FlywayExecutor {
         this.configuration = configuration;
     }
 
+    /**
+     * What a command may change in the database, and so which of what a session prepared can no longer be reused after
+     * it.
+     */
+    public enum Invalidates {
+        /**
+         * The command only reads, so everything can be reused.
+         */
+        NOTHING,
+        /**
+         * The command may change the schema history table, which is read again by the next command.
+         */
+        SCHEMA_HISTORY,
+        /**
+         * The command may change anything, so only the connection factory and the scanned locations are reused.
+         */
+        EVERYTHING
+    }
+
+    /**
+     * A session in which consecutive commands share what they prepare. Closing it releases what is still held.
+     */
+    public interface Session extends AutoCloseable {
+        /**
+         * Discards what was prepared for the commands so far, for when the database was changed by other means.
+         */
+        void invalidate();
+
+        @Override
+        void close();
+    }
+
+    /**
+     * Everything prepared to run commands against the database, from the connection to the migration resolver.
+     */
+    private record Environment(boolean scannerRequired,
+        StatementInterceptor statementInterceptor,
+        Database database,
+        Schema defaultSchema,
+        Schema[] schemas,
+        CallbackExecutor<Event> callbackExecutor,
+        SchemaHistory schemaHistory,
+        CompositeMigrationResolver migrationResolver) implements AutoCloseable {
+        <T> T execute(final Command<T> command) {
+            return command.execute(migrationResolver,
+                schemaHistory,
+                database,
+                defaultSchema,
+                schemas,
+                callbackExecutor,
+                statementInterceptor);
+        }
+
+        @Override
+        public void close() {
+            IOUtils.close(database);
+            if (statementInterceptor instanceof AutoCloseable) {
+                IOUtils.close((AutoCloseable) statementInterceptor);
+            }
+        }
+    }
+
+    /**
+     * Whether a session is open, in which {@link #sessionConnectionFactory}, {@link #sessionProviders} and
+     * {@link #sessionEnvironment} are kept from one command to the next.
+     */
+    private boolean sessionOpen;
+    private JdbcConnectionFactory sessionConnectionFactory;
+    private Pair<ResourceProvider, ClassProvider<JavaMigration>> sessionProviders;
+    private Environment sessionEnvironment;
+
+    /**
+     * Opens a session in which the commands executed until it is closed reuse the connection factory, the scanned
+     * locations, the database connection, the callbacks, the resolved migrations and the schema history of the ones
+     * before them, for as long as those didn't invalidate them.
+     *
+     * @return The session, to be closed once the commands are done.
+     */
+    public Session openSession() {
+        sessionOpen = true;
+        return new Session() {
+            @Override
+            public void invalidate() {
+                invalidateSession();
+            }
+
+            @Override
+            public void close() {
+                sessionOpen = false;
+                closeSessionEnvironment();
+                sessionProviders = null;
+                if (sessionConnectionFactory != null) {
+                    sessionConnectionFactory.close();
+                    sessionConnectionFactory = null;
+                }
+            }
+        };
+    }
+
+    /**
+     * Discards what an open session prepared so far, for when the database is about to be changed by other means than
+     * a command of this executor.
+     */
+    public void invalidateSession() {
+        closeSessionEnvironment();
+    }
+
     /**
      * Executes this command with proper resource handling and cleanup.
      *
@@ -121,7 +228,72 @@ public class FlywayExecutor {
     public <T> T execute(final Command<T> command,
         final boolean scannerRequired,
         final FlywayTelemetryManager flywayTelemetryManager) {
-        return execute(command, scannerRequired, flywayTelemetryManager, init());
+        return execute(command, scannerRequired, flywayTelemetryManager, Invalidates.EVERYTHING);
+    }
+
+    /**
+     * Executes this command with proper resource handling and cleanup.
+     *
+     * @param command     The command to execute.
+     * @param invalidates What the command may change, and so what an open session can't reuse after it.
+     * @param <T>         The type of the result.
+     * @return The result of the command.
+     */
+    public <T> T execute(final Command<T> command,
+        final boolean scannerRequired,
+        final FlywayTelemetryManager flywayTelemetryManager,
+        final Invalidates invalidates) {
+        if (!sessionOpen) {
+            return execute(command, scannerRequired, flywayTelemetryManager, init());
+        }
+
+        T result;
+        final long pluginLookupsBefore = configuration.getPluginRegister().getLookupCount();
+        try {
+            if (sessionConnectionFactory == null) {
+                sessionConnectionFactory = init();
+            }
+            if (sessionEnvironment != null && scannerRequired && !sessionEnvironment.scannerRequired()) {
+                closeSessionEnvironment();
+            }
+            if (sessionEnvironment == null) {
+                if (sessionProviders == null
+                    || scannerRequired && sessionProviders.getLeft() == NoopResourceProvider.INSTANCE) {
+                    sessionProviders = createResourceAndClassProviders(scannerRequired);
+                }
+                sessionEnvironment = prepare(scannerRequired,
+                    sessionProviders,
+                    flywayTelemetryManager,
+                    sessionConnectionFactory);
+            } else {
+                LOG.debug("Reusing the database connection, callbacks and resolved migrations of the previous command");
+            }
+
+            result = sessionEnvironment.execute(command);
+
+            if (invalidates == Invalidates.SCHEMA_HISTORY) {
+                sessionEnvironment.schemaHistory().clearCache();
+            } else if (invalidates == Invalidates.EVERYTHING) {
+                closeSessionEnvironment();
+            }
+        } catch (final RuntimeException | Error e) {
+            // Whatever state the failure left the connection in must not leak into the next command
+            closeSessionEnvironment();
+            throw e;
+        } finally {
+            showMemoryUsage();
+            showPluginLookups(pluginLookupsBefore);
+        }
+
+        showSignInNotice();
+        return result;
+    }
+
+    private void closeSessionEnvironment() {
+        if (sessionEnvironment != null) {
+            sessionEnvironment.close();
+            sessionEnvironment = null;
+        }
     }
 
     private <T> T execute(final Command<T> command,
@@ -129,7 +301,29 @@ public class FlywayExecutor {
         final FlywayTelemetryManager flywayTelemetryManager,
         final JdbcConnectionFactory jdbcConnectionFactory) {
         T result;
+        final long pluginLookupsBefore = configuration.getPluginRegister().getLookupCount();
 
+        Environment environment = null;
+        try {
+            environment = prepare(scannerRequired,
+                createResourceAndClassProviders(scannerRequired),
+                flywayTelemetryManager,
+                jdbcConnectionFactory);
+            result = environment.execute(command);
+        } finally {
+            IOUtils.close(environment);
+            showMemoryUsage();
+            showPluginLookups(pluginLookupsBefore);
+        }
+
+        showSignInNotice();
+        return result;
+    }
+
+    private Environment prepare(final boolean scannerRequired,
+        final Pair<ResourceProvider, ClassProvider<JavaMigration>> resourceProviderClassProviderPair,
+        final FlywayTelemetryManager flywayTelemetryManager,
+        final JdbcConnectionFactory jdbcConnectionFactory) {
         final StatementInterceptor statementInterceptor = configuration.getPluginRegister()
             .getInstancesOf(StatementInterceptor.class)
             .stream()
@@ -137,49 +331,47 @@ public class FlywayExecutor {
             .findFirst()
             .orElse(null);
 
-        final Pair<ResourceProvider, ClassProvider<JavaMigration>> resourceProviderClassProviderPair = createResourceAndClassProviders(
-            scannerRequired);
         final ResourceProvider resourceProvider = resourceProviderClassProviderPair.getLeft();
         final ClassProvider<JavaMigration> classProvider = resourceProviderClassProviderPair.getRight();
         final ParsingContext parsingContext = new ParsingContext();
 
-        final PreConnectCallbackExecutor preConnectCallbackExecutor = new PreConnectCallbackExecutor(resourceProvider,
-            configuration,
-            parsingContext,
-            statementInterceptor);
-        preConnectCallbackExecutor.executeCallbacks();
-
-        final DatabaseType databaseType = jdbcConnectionFactory.getDatabaseType();
-        final SqlScriptFactory sqlScriptFactory = databaseType.createSqlScriptFactory(configuration, parsingContext);
+        Database database = null;
+        try {
+            final PreConnectCallbackExecutor preConnectCallbackExecutor = new PreConnectCallbackExecutor(
+                resourceProvider,
+                configuration,
+                parsingContext,
+                statementInterceptor);
+            preConnectCallbackExecutor.executeCallbacks();
 
-        resourceNameValidator.validateSQLMigrationNaming(resourceProvider, configuration, databaseType);
+            final DatabaseType databaseType = jdbcConnectionFactory.getDatabaseType();
+            final SqlScriptFactory sqlScriptFactory = databaseType.createSqlScriptFactory(configuration,
+                parsingContext);
 
-        RetryStrategy.setNumberOfRetries(configuration.getLockRetryCount());
+            resourceNameValidator.validateSQLMigrationNaming(resourceProvider, configuration, databaseType);
 
-        final SqlScriptExecutorFactory noCallbackSqlScriptExecutorFactory = databaseType.createSqlScriptExecutorFactory(
-            jdbcConnectionFactory,
-            NoopCallbackExecutor.INSTANCE,
-            null);
+            final SqlScriptExecutorFactory noCallbackSqlScriptExecutorFactory = databaseType.createSqlScriptExecutorFactory(
+                jdbcConnectionFactory,
+                NoopCallbackExecutor.INSTANCE,
+                null);
 
-        jdbcConnectionFactory.setConnectionInitializer((jdbcConnectionFactory1, connection) -> {
-            if (configuration.getInitSql() == null) {
-                return;
-            }
+            jdbcConnectionFactory.setConnectionInitializer((jdbcConnectionFactory1, connection) -> {
+                if (configuration.getInitSql() == null) {
+                    return;
+                }
 
-            printDeprecationNotice(INIT_SQL);
+                printDeprecationNotice(INIT_SQL);
 
-            final StringResource resource = new StringResource(configuration.getInitSql());
+                final StringResource resource = new StringResource(configuration.getInitSql());
 
-            final SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, true, resourceProvider);
+                final SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, true, resourceProvider);
 
-            final boolean outputQueryResults = configuration.isOutputQueryResults();
+                final boolean outputQueryResults = configuration.isOutputQueryResults();
 
-            noCallbackSqlScriptExecutorFactory.createSqlScriptExecutor(connection, false, false, outputQueryResults)
-                .execute(sqlScript, configuration);
-        });
+                noCallbackSqlScriptExecutorFactory.createSqlScriptExecutor(connection, false, false, outputQueryResults)
+                    .execute(sqlScript, configuration);
+            });
 
-        Database database = null;
-        try {
             database = databaseType.createDatabase(configuration, jdbcConnectionFactory, statementInterceptor);
 
             if (!dbConnectionInfoPrinted) {
@@ -238,33 +430,34 @@ public class FlywayExecutor {
                 defaultSchema,
                 statementInterceptor);
 
-            result = command.execute(createMigrationResolver(resourceProvider,
-                    classProvider,
-                    sqlScriptExecutorFactory,
-                    sqlScriptFactory,
-                    parsingContext,
-                    statementInterceptor),
-                schemaHistory,
+            return new Environment(scannerRequired,
+                statementInterceptor,
                 database,
                 defaultSchema,
                 schemas.getRight().toArray(Schema[]::new),
                 callbackExecutor,
-                statementInterceptor);
-        } finally {
+                schemaHistory,
+                createMigrationResolver(resourceProvider,
+                    classProvider,
+                    sqlScriptExecutorFactory,
+                    sqlScriptFactory,
+                    parsingContext,
+                    statementInterceptor));
+        } catch (final RuntimeException | Error e) {
             IOUtils.close(database);
             if (statementInterceptor instanceof AutoCloseable) {
                 IOUtils.close((AutoCloseable) statementInterceptor);
             }
-            showMemoryUsage();
+            throw e;
         }
+    }
 
+    private void showSignInNotice() {
         final File permitFile = new File(FileUtils.getAppDataFlywayCLILocation(), "permit");
         if (LicenseGuard.getTier(configuration) == Tier.COMMUNITY && !permitFile.exists()) {
             LOG.info("");
             LOG.info("You are not signed in to Flyway, to sign in please run auth");
         }
-
-        return result;
     }
 
     public JdbcConnectionFactory init() {
@@ -416,6 +609,13 @@ public class FlywayExecutor {
             configuration.getResolvers());
     }
 
+    private void showPluginLookups(final long pluginLookupsBefore) {
+        final PluginRegister pluginRegister = configuration.getPluginRegister();
+        LOG.debug("Plugin lookups: "
+            + (pluginRegister.getLookupCount() - pluginLookupsBefore)
+            + " (" + pluginRegister.getIndexedLookupCount() + " indexed)");
+    }
+
     private void showMemoryUsage() {
         final Runtime runtime = Runtime.getRuntime();
         final long free = runtime.freeMemory();
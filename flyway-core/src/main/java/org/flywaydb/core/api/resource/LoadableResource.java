@@ -19,6 +19,8 @@
  */
 package org.flywaydb.core.api.resource;
 
+import static org.flywaydb.core.internal.util.DataUnits.MEGABYTE;
+
 import java.io.Reader;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.internal.parser.ParsingContext;
@@ -28,6 +30,12 @@ import org.flywaydb.core.internal.parser.PlaceholderReplacingReader;
  * A loadable resource.
  */
 public abstract class LoadableResource implements Resource, Comparable<LoadableResource> {
+    /**
+     * The minimum size (in bytes) as of which to apply streaming, when active. Resources known to be smaller than this
+     * threshold will not be streamed, regardless of the actual setting.
+     */
+    protected static final long STREAM_MINIMUM_THRESHOLD = MEGABYTE.toBytes(1);
+
     /**
      * Reads the contents of this resource.
      *
@@ -57,6 +65,9 @@ public abstract class LoadableResource implements Resource, Comparable<LoadableR
                 return PlaceholderReplacingReader.create(configuration, parsingContext, loadableResource.read());
             }
 
+            @Override
+            public boolean shouldStream() {return loadableResource.shouldStream();}
+
             @Override
             public String getAbsolutePath() {return loadableResource.getAbsolutePath();}
 
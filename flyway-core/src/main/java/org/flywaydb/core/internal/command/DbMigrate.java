@@ -67,7 +67,24 @@ public class DbMigrate {
      * This is used to remember the type of migration between calls to migrateGroup().
      */
     private boolean isPreviousVersioned;
-    private final List<ResolvedMigration> appliedResolvedMigrations = new ArrayList<>();
+    private final Set<ResolvedMigration> appliedResolvedMigrations = new HashSet<>();
+    /**
+     * The info about all known migrations. This is built once per migration run and then updated in place as
+     * migrations are applied, instead of being rebuilt between calls to migrateGroup().
+     */
+    private MigrationInfoServiceImpl infoService;
+    /**
+     * The migrations recorded in the schema history table since the info service was last brought up to date.
+     */
+    private final List<MigrationInfoImpl> migrationsAppliedSinceRefresh = new ArrayList<>();
+    /**
+     * The migrations that were pending at the last full refresh of the info service and have not been considered yet.
+     */
+    private final Deque<MigrationInfoImpl> pendingMigrations = new ArrayDeque<>();
+    /**
+     * The current version of the schema as of the last full refresh of the info service.
+     */
+    private MigrationVersion currentSchemaVersion;
     private final ProgressLogger progress;
 
     public DbMigrate(final Database database,
@@ -179,17 +196,57 @@ public class DbMigrate {
      * @return The number of newly applied migrations.
      */
     private Integer migrateGroup(final boolean firstRun) {
-        final MigrationInfoServiceImpl infoService = new MigrationInfoServiceImpl(migrationResolver,
-            schemaHistory,
-            database,
-            configuration,
-            configuration.getTarget(),
-            configuration.isOutOfOrder(),
-            ValidatePatternUtils.getIgnoreAllPattern());
-        infoService.refresh();
+        if (infoService == null) {
+            infoService = new MigrationInfoServiceImpl(migrationResolver,
+                schemaHistory,
+                database,
+                configuration,
+                configuration.getTarget(),
+                configuration.isOutOfOrder(),
+                ValidatePatternUtils.getIgnoreAllPattern());
+        }
+
+        // As long as only the migrations applied by this run were added to the schema history table since the last
+        // call, the info service is updated in place and the checks on it can't have a different outcome.
+        final boolean refreshed = infoService.refresh(migrationsAppliedSinceRefresh);
+        migrationsAppliedSinceRefresh.clear();
+        if (refreshed) {
+            checkMigrationInfos(firstRun);
+        }
+
+        final LinkedHashMap<MigrationInfoImpl, Boolean> group = new LinkedHashMap<>();
+        while (!pendingMigrations.isEmpty()) {
+            final MigrationInfoImpl pendingMigration = pendingMigrations.poll();
+            if (appliedResolvedMigrations.contains(pendingMigration.getResolvedMigration())
+                || pendingMigration.getState() != MigrationState.PENDING) {
+                continue;
+            }
+
+            final boolean isOutOfOrder = pendingMigration.getVersion() != null
+                && pendingMigration.getVersion().compareTo(currentSchemaVersion) < 0;
+
+            group.put(pendingMigration, isOutOfOrder);
+
+            if (!configuration.isGroup()) {
+                // Only include one pending migration if group is disabled
+                break;
+            }
+        }
 
+        if (!group.isEmpty()) {
+            applyMigrations(group, configuration.isSkipExecutingMigrations());
+        }
+        return group.size();
+    }
+
+    /**
+     * Checks the freshly refreshed info service for future and failed migrations and captures its pending migrations.
+     *
+     * @param firstRun Whether this is the first time this code runs in this migration run.
+     */
+    private void checkMigrationInfos(final boolean firstRun) {
         final MigrationInfo current = infoService.current();
-        final MigrationVersion currentSchemaVersion = current == null ? MigrationVersion.EMPTY : current.getVersion();
+        currentSchemaVersion = current == null ? MigrationVersion.EMPTY : current.getVersion();
         if (firstRun) {
             LOG.info("Current version of schema " + schema + ": " + currentSchemaVersion);
 
@@ -259,29 +316,11 @@ public class DbMigrate {
             }
         }
 
-        Arrays.stream(infoService.pending()).forEach(migrateResult::putPendingMigration);
+        final MigrationInfoImpl[] pending = infoService.pending();
+        Arrays.stream(pending).forEach(migrateResult::putPendingMigration);
 
-        final LinkedHashMap<MigrationInfoImpl, Boolean> group = new LinkedHashMap<>();
-        for (final MigrationInfoImpl pendingMigration : infoService.pending()) {
-            if (appliedResolvedMigrations.contains(pendingMigration.getResolvedMigration())) {
-                continue;
-            }
-
-            final boolean isOutOfOrder = pendingMigration.getVersion() != null
-                && pendingMigration.getVersion().compareTo(currentSchemaVersion) < 0;
-
-            group.put(pendingMigration, isOutOfOrder);
-
-            if (!configuration.isGroup()) {
-                // Only include one pending migration if group is disabled
-                break;
-            }
-        }
-
-        if (!group.isEmpty()) {
-            applyMigrations(group, configuration.isSkipExecutingMigrations());
-        }
-        return group.size();
+        pendingMigrations.clear();
+        pendingMigrations.addAll(Arrays.asList(pending));
     }
 
     private void logSummary(final int migrationSuccessCount, final long executionTime, final String targetVersion) {
@@ -480,6 +519,7 @@ public class DbMigrate {
                 migration.getResolvedMigration().getChecksum(),
                 executionTime,
                 true);
+            migrationsAppliedSinceRefresh.add(migration);
         }
     }
 
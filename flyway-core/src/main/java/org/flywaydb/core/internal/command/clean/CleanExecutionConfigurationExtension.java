@@ -0,0 +1,80 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.command.clean;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+
+/**
+ * Configuration for how clean is executed. Values are nullable so that merging configurations only overrides what was
+ * explicitly set.
+ */
+@Getter
+@Setter
+public class CleanExecutionConfigurationExtension implements ConfigurationExtension {
+    private static final String PARALLEL_CLEAN = "flyway.parallelClean";
+    private static final String PARALLEL_CLEAN_THREADS = "flyway.parallelCleanThreads";
+    private static final String CLEAN_BATCH_SIZE = "flyway.cleanBatchSize";
+    private static final int DEFAULT_PARALLEL_CLEAN_THREADS = 4;
+
+    /**
+     * Whether to clean multiple schemas at the same time, each on a connection of its own.
+     */
+    private Boolean parallelClean;
+    /**
+     * The maximum number of schemas to clean at the same time, and so of connections to open, when parallel clean is
+     * enabled. Defaults to 4.
+     */
+    private Integer parallelCleanThreads;
+    /**
+     * The maximum number of generated DROP statements to send to the database at once. 1 sends them one at a time.
+     * Defaults to what suits the database type.
+     */
+    private Integer cleanBatchSize;
+
+    @JsonIgnore
+    public int getCleanThreadCount() {
+        if (parallelClean == null || !parallelClean) {
+            return 1;
+        }
+        return parallelCleanThreads == null ? DEFAULT_PARALLEL_CLEAN_THREADS : parallelCleanThreads;
+    }
+
+    @Override
+    public String getNamespace() {
+        return "";
+    }
+
+    @Override
+    public String getConfigurationParameterFromEnvironmentVariable(final String environmentVariable) {
+        if ("FLYWAY_PARALLEL_CLEAN".equals(environmentVariable)) {
+            return PARALLEL_CLEAN;
+        }
+        if ("FLYWAY_PARALLEL_CLEAN_THREADS".equals(environmentVariable)) {
+            return PARALLEL_CLEAN_THREADS;
+        }
+        if ("FLYWAY_CLEAN_BATCH_SIZE".equals(environmentVariable)) {
+            return CLEAN_BATCH_SIZE;
+        }
+        return null;
+    }
+}
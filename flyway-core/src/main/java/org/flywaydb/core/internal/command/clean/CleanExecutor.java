@@ -30,6 +30,7 @@ import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.ExecutionTemplateFactory;
 import org.flywaydb.core.internal.schemahistory.SchemaHistory;
+import org.flywaydb.core.internal.util.ParallelUtils;
 import org.flywaydb.core.internal.util.StopWatch;
 import org.flywaydb.core.internal.util.TimeFormat;
 
@@ -88,9 +89,11 @@ public class CleanExecutor {
                 i++;
             }
         }
-        cleanSchemas(schemaList.toArray(Schema[]::new), dropSchemas, cleanResult);
-        Collections.reverse(schemaList);
-        cleanSchemas(schemaList.toArray(Schema[]::new), dropSchemas, null);
+        if (!cleanSchemasInParallel(schemaList, dropSchemas, cleanResult)) {
+            cleanSchemas(schemaList.toArray(Schema[]::new), dropSchemas, cleanResult);
+            Collections.reverse(schemaList);
+            cleanSchemas(schemaList.toArray(Schema[]::new), dropSchemas, null);
+        }
 
         dropDatabaseObjectsPostSchemas(schemas);
 
@@ -163,6 +166,71 @@ public class CleanExecutor {
         }
     }
 
+    /**
+     * Cleans these schemas at the same time, each on a connection of its own, if parallel clean is enabled. Like the
+     * serial clean, this is done twice, as objects in one schema may depend on objects in another. Any failure falls
+     * back to the serial clean, which works through such dependencies in a fixed order.
+     *
+     * @return Whether the schemas were cleaned. If not, they still need to be cleaned serially.
+     */
+    private boolean cleanSchemasInParallel(final List<Schema> schemas,
+        final List<String> dropSchemas,
+        final CleanResult cleanResult) {
+        final int threads = database.getConfiguration()
+            .getPluginRegister()
+            .getExact(CleanExecutionConfigurationExtension.class)
+            .getCleanThreadCount();
+        if (threads <= 1 || schemas.size() <= 1 || !database.supportsParallelClean()) {
+            return false;
+        }
+
+        LOG.debug("Cleaning " + schemas.size() + " schemas on up to " + threads + " connections...");
+        final Schema currentSchema = connection.getCurrentSchema();
+        for (int pass = 0; pass < 2; pass++) {
+            final List<RuntimeException> failures = ParallelUtils.map(schemas,
+                threads,
+                "flyway-clean",
+                schema -> cleanSchemaOnOwnConnection(schema, currentSchema));
+            for (int i = 0; i < schemas.size(); i++) {
+                final Schema schema = schemas.get(i);
+                if (failures.get(i) != null && !dropSchemas.contains(schema.getName())) {
+                    LOG.debug(failures.get(i).getMessage());
+                    LOG.warn("Unable to clean schema " + schema + " in parallel with the others."
+                        + " Cleaning the schemas one at a time instead.");
+                    return false;
+                }
+            }
+        }
+
+        for (final Schema schema : schemas) {
+            if (!dropSchemas.contains(schema.getName())) {
+                cleanResult.schemasCleaned.add(schema.getName());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return The failure to clean this schema, or {@code null} if it was cleaned.
+     */
+    private RuntimeException cleanSchemaOnOwnConnection(final Schema schema, final Schema currentSchema) {
+        Connection schemaConnection = null;
+        try {
+            schemaConnection = database.openConnection();
+            if (currentSchema != null) {
+                schemaConnection.changeCurrentSchemaTo(schemaConnection.getSchema(currentSchema.getName()));
+            }
+            cleanSchema(schemaConnection, schemaConnection.getSchema(schema.getName()));
+            return null;
+        } catch (final RuntimeException e) {
+            return e;
+        } finally {
+            if (schemaConnection != null) {
+                schemaConnection.close();
+            }
+        }
+    }
+
     private void cleanSchemas(final Schema[] schemas, final List<String> dropSchemas, final CleanResult cleanResult) {
         for (final Schema schema : schemas) {
             if (dropSchemas.contains(schema.getName())) {
@@ -180,20 +248,28 @@ public class CleanExecutor {
     }
 
     private void cleanSchema(final Schema schema) {
+        cleanSchema(connection, schema);
+    }
+
+    private void cleanSchema(final Connection schemaConnection, final Schema schema) {
         LOG.debug("Cleaning schema " + schema + "...");
         final StopWatch stopWatch = new StopWatch();
         stopWatch.start();
-        doCleanSchema(schema);
+        doCleanSchema(schemaConnection, schema);
         stopWatch.stop();
         LOG.info(String.format("Successfully cleaned schema %s (execution time %s)",
             schema,
             TimeFormat.format(stopWatch.getTotalTimeMillis())));
     }
 
-    protected void doCleanSchema(final Schema schema) {
-        ExecutionTemplateFactory.createExecutionTemplate(connection.getJdbcConnection(), database, true).execute(() -> {
-            schema.clean();
-            return null;
-        });
+    /**
+     * Cleans this schema, which was retrieved from this connection.
+     */
+    protected void doCleanSchema(final Connection schemaConnection, final Schema schema) {
+        ExecutionTemplateFactory.createExecutionTemplate(schemaConnection.getJdbcConnection(), database, true)
+            .execute(() -> {
+                schema.clean();
+                return null;
+            });
     }
 }
@@ -30,7 +30,8 @@ public class CleanModel {
     public enum Mode {
         DEFAULT,
         SCHEMA,
-        ALL;
+        ALL,
+        TEMPLATE;
     }
 
     private SchemaModel schemas = null;
@@ -0,0 +1,49 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.command.clean;
+
+/**
+ * A copy of a database in its migrated state, kept on the same server, which the database can be restored from instead
+ * of being cleaned and migrated again. This is what the {@code template} clean mode uses.
+ * <p>
+ * A database can only be copied or replaced while nothing else is connected to it. Implementations therefore open and
+ * close connections of their own, and are only used once Flyway has closed its connections to the database.
+ */
+public interface CleanTemplate {
+    /**
+     * @return The name of the template.
+     */
+    String getName();
+
+    /**
+     * @return Whether the template exists.
+     */
+    boolean exists();
+
+    /**
+     * Replaces the database with a copy of the template, disconnecting anything still connected to it.
+     */
+    void restore();
+
+    /**
+     * Creates the template from the database as it is now, replacing any template previously created from it.
+     */
+    void save();
+}
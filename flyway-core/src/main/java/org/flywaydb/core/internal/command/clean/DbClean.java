@@ -21,13 +21,22 @@ package org.flywaydb.core.internal.command.clean;
 
 import static org.flywaydb.core.internal.util.CommandExtensionUtils.runCommandExtension;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeMap;
 import lombok.CustomLog;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.callback.Event;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.api.output.CleanResult;
 import org.flywaydb.core.api.output.CommandResultFactory;
+import org.flywaydb.core.api.resolver.ResolvedMigration;
 import org.flywaydb.core.internal.callback.CallbackExecutor;
 import org.flywaydb.core.internal.command.clean.CleanModel.Mode;
 import org.flywaydb.core.internal.database.base.Connection;
@@ -70,7 +79,7 @@ public class DbClean {
 
         callbackExecutor.onEvent(Event.BEFORE_CLEAN);
 
-        final String command = toCommand(ConfigUtils.getCleanModel(configuration).getMode());
+        final String command = toCommand(database.getCleanModel().getMode());
         CleanResult cleanResult;
 
         if ("clean".equals(command)) {
@@ -89,6 +98,57 @@ public class DbClean {
         return cleanResult;
     }
 
+    /**
+     * @return Whether the {@code template} clean mode is configured for any database, which is worth checking before
+     * connecting to find out whether it applies to this one.
+     */
+    public static boolean isTemplateModeConfigured(final Configuration configuration) {
+        return ConfigUtils.isCleanModeConfigured(configuration, Mode.TEMPLATE);
+    }
+
+    /**
+     * @return Whether the {@code template} clean mode is configured for this database.
+     */
+    public static boolean isTemplateMode(final Database database) {
+        return Mode.TEMPLATE.name().equalsIgnoreCase(database.getCleanModel().getMode());
+    }
+
+    /**
+     * @return The key of the template created by these migrations, which changes whenever one of them is added, removed
+     * or changed, or whenever the schemas or placeholders they are applied with change.
+     */
+    public static String getTemplateKey(final Configuration configuration,
+        final Collection<ResolvedMigration> migrations) {
+        final List<String> entries = new ArrayList<>();
+        for (final ResolvedMigration migration : migrations) {
+            entries.add(migration.getVersion()
+                + "\0"
+                + migration.getDescription()
+                + "\0"
+                + migration.getType()
+                + "\0"
+                + migration.getChecksum());
+        }
+        Collections.sort(entries);
+        // Checksums are computed before placeholders are replaced, so the same migrations can build different databases
+        entries.add("schemas\0"
+            + configuration.getDefaultSchema()
+            + "\0"
+            + String.join(",", configuration.getSchemas()));
+        new TreeMap<>(configuration.getPlaceholders()).forEach((name, value) -> entries.add("placeholder\0"
+            + name
+            + "\0"
+            + value));
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(String.join("\n", entries).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new FlywayException("Unable to compute clean template key", e);
+        }
+    }
+
     public static String toCommand(final String mode) {
         if (!StringUtils.hasText(mode)) {
             return "clean";
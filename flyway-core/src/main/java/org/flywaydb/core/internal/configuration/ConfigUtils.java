@@ -881,6 +881,24 @@ public class ConfigUtils {
         }
     }
 
+    /**
+     * @return Whether the clean configuration of any database sets this mode. Which of them applies is only known once
+     * connected, see {@link org.flywaydb.core.internal.database.base.Database#getCleanModel()}.
+     */
+    public static boolean isCleanModeConfigured(final Configuration conf, final CleanModel.Mode mode) {
+        for (final String extensionName : List.of("SQLServerConfigurationExtension",
+            "PostgreSQLConfigurationExtension")) {
+            final ConfigurationExtension extension = conf.getPluginRegister().getLicensedExact(extensionName, conf);
+            if (extension != null) {
+                final CleanModel cleanModel = (CleanModel) ClassUtils.getFieldValue(extension, "clean");
+                if (cleanModel != null && mode.name().equalsIgnoreCase(cleanModel.getMode())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
     public static void setCleanModel(final Configuration conf, final CleanModel model) {
         final ConfigurationExtension extension = conf.getPluginRegister()
             .getLicensedExact("SQLServerConfigurationExtension", conf);
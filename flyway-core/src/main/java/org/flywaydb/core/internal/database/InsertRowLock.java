@@ -20,9 +20,12 @@
 package org.flywaydb.core.internal.database;
 
 import lombok.CustomLog;
+import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.Results;
+import org.flywaydb.core.internal.strategy.BackoffStrategy;
+import org.flywaydb.core.internal.strategy.LockRetryConfigurationExtension;
 
 import java.math.BigInteger;
 import java.sql.SQLException;
@@ -58,6 +61,7 @@ public class InsertRowLock {
      */
     private final String tableLockString = getNextRandomString();
     private final JdbcTemplate jdbcTemplate;
+    private final Configuration configuration;
     public static final int LOCK_TIMEOUT_MINS = 10;
     private final ScheduledExecutorService executor;
     private ScheduledFuture<?> scheduledFuture;
@@ -66,8 +70,9 @@ public class InsertRowLock {
      */
     public static String FLYWAY_LOCK_STRING = "flyway-lock";
 
-    public InsertRowLock(final JdbcTemplate jdbcTemplate) {
+    public InsertRowLock(final JdbcTemplate jdbcTemplate, final Configuration configuration) {
         this.jdbcTemplate = jdbcTemplate;
+        this.configuration = configuration;
         this.executor = createScheduledExecutor();
     }
 
@@ -85,7 +90,7 @@ public class InsertRowLock {
      *
      * <p>This method assumes the database supports primary key constraints on 'installed_rank'.
      * The lock is acquired by inserting a row with installed_rank = -100. If another instance already holds the lock,
-     * this method will retry every second until the lock becomes available.</p>
+     * this method will retry with a randomised backoff until the lock becomes available.</p>
      *
      * @param insertStatementTemplate    template for INSERT statement with placeholders
      *                                   ({@link
@@ -124,7 +129,8 @@ public class InsertRowLock {
      *   <li>Delete any expired locks from previous instances</li>
      *   <li>Attempt to insert a lock row using the provided strategy</li>
      *   <li>If successful, start a background thread to keep the lock alive</li>
-     *   <li>If unsuccessful, retry every second (up to 50 retries with debug logging, then error logging)</li>
+     *   <li>If unsuccessful, retry with a randomised backoff (up to 50 retries with debug logging, then error
+     *   logging)</li>
      * </ol>
      *
      * @param insertStatementTemplate    template for INSERT statement with placeholders
@@ -148,6 +154,9 @@ public class InsertRowLock {
         final String booleanTrue,
         final BiPredicate<JdbcTemplate, String> lockStrategy) throws SQLException {
         int retryCount = 0;
+        final BackoffStrategy backoffStrategy = configuration.getPluginRegister()
+            .getExact(LockRetryConfigurationExtension.class)
+            .createBackoffStrategy();
         while (true) {
             try {
                 jdbcTemplate.execute(generateDeleteExpiredLockStatement(deleteExpiredLockStatement));
@@ -164,7 +173,7 @@ public class InsertRowLock {
                         "Waiting for lock on Flyway schema history table. Application may be deadlocked. Lock row may require manual removal "
                             + "from the schema history table.");
                 }
-                Thread.sleep(1000);
+                Thread.sleep(backoffStrategy.nextWithJitter());
             } catch (InterruptedException ex) {
                 // Ignore - if interrupted, we still need to wait for lock to become available
             }
@@ -163,6 +163,7 @@ public abstract class BaseDatabaseType implements DatabaseType {
         final CallbackExecutor<Event> callbackExecutor,
         final StatementInterceptor statementInterceptor) {
         final DatabaseType thisRef = this;
+        final int defaultBatchMaxStatements = getDefaultBatchMaxStatements(jdbcConnectionFactory.getJdbcUrl());
 
         return (connection, undo, batch, outputQueryResults) -> new DefaultSqlScriptExecutor(new JdbcTemplate(connection,
             thisRef),
@@ -170,7 +171,17 @@ public abstract class BaseDatabaseType implements DatabaseType {
             undo,
             jdbcConnectionFactory.isSupportsBatch() && batch,
             outputQueryResults,
-            statementInterceptor);
+            statementInterceptor,
+            defaultBatchMaxStatements);
+    }
+
+    /**
+     * The maximum number of statements to send in a single JDBC batch when {@code batchMaxStatements} isn't configured.
+     *
+     * @param jdbcUrl The JDBC URL of the connection the batches are sent over.
+     */
+    protected int getDefaultBatchMaxStatements(final String jdbcUrl) {
+        return DefaultSqlScriptExecutor.DEFAULT_BATCH_MAX_STATEMENTS;
     }
 
     public DatabaseExecutionStrategy createExecutionStrategy(final java.sql.Connection connection) {
@@ -26,12 +26,17 @@ import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.extensibility.LicenseGuard;
 import org.flywaydb.core.extensibility.Tier;
+import org.flywaydb.core.internal.command.clean.CleanExecutionConfigurationExtension;
+import org.flywaydb.core.internal.command.clean.CleanModel;
+import org.flywaydb.core.internal.command.clean.CleanTemplate;
+import org.flywaydb.core.internal.configuration.ConfigUtils;
 import org.flywaydb.core.internal.database.DatabaseType;
 import org.flywaydb.core.internal.exception.FlywayDbUpgradeRequiredException;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.JdbcUtils;
+import org.flywaydb.core.internal.jdbc.Results;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 import org.flywaydb.core.internal.resource.StringResource;
 import org.flywaydb.core.internal.sqlscript.Delimiter;
@@ -298,6 +303,14 @@ public abstract class Database<C extends Connection> implements Closeable {
         return false;
     }
 
+    /**
+     * @return Whether several schemas can be cleaned at the same time, each on a connection of its own. This requires
+     * cleaning a schema to only ever query through the connection of that schema, never the main connection.
+     */
+    public boolean supportsParallelClean() {
+        return !useSingleConnection();
+    }
+
     public DatabaseMetaData getJdbcMetaData() {
         return jdbcMetaData;
     }
@@ -326,6 +339,14 @@ public abstract class Database<C extends Connection> implements Closeable {
         return migrationConnection;
     }
 
+    /**
+     * Opens a new connection that isn't shared with anything else, e.g. to work on several schemas at the same time.
+     * The caller is responsible for closing it.
+     */
+    public final C openConnection() {
+        return getConnection(jdbcConnectionFactory.openConnection());
+    }
+
     /**
      * @return The event connection used to handle event callbacks. The reason for creating an event connection is that
      * if using the migration connection instead, it may trigger an unwanted commit which breaks any ongoing migration
@@ -502,6 +523,56 @@ public abstract class Database<C extends Connection> implements Closeable {
         return databaseType;
     }
 
+    /**
+     * @return The maximum number of generated DROP statements to send to the database at once while cleaning. 1 sends
+     * them one at a time.
+     */
+    public final int getCleanBatchSize() {
+        final Integer cleanBatchSize = configuration.getPluginRegister()
+            .getExact(CleanExecutionConfigurationExtension.class)
+            .getCleanBatchSize();
+        return cleanBatchSize == null ? getDefaultCleanBatchSize() : cleanBatchSize;
+    }
+
+    /**
+     * @return The number of generated DROP statements to send to the database at once while cleaning, unless
+     * configured otherwise. Databases that execute a batch of DDL statements in order, stopping at the first failure,
+     * override this.
+     */
+    protected int getDefaultCleanBatchSize() {
+        return 1;
+    }
+
+    /**
+     * Executes this batch of DROP statements in order while cleaning. This uses a JDBC batch by default.
+     *
+     * @param jdbcTemplate The template of the schema being cleaned.
+     * @param statements   The statements to execute.
+     * @throws SQLException when one of the statements failed.
+     */
+    public void executeDropBatch(final JdbcTemplate jdbcTemplate, final List<String> statements) throws SQLException {
+        final Results results = jdbcTemplate.executeBatch(statements);
+        if (results.getException() != null) {
+            throw results.getException();
+        }
+    }
+
+    /**
+     * @return The clean configuration of this database, which by default is that of the {@code sqlserver} namespace.
+     */
+    public CleanModel getCleanModel() {
+        return ConfigUtils.getCleanModel(configuration);
+    }
+
+    /**
+     * @param key Identifies the migrations the template is created by.
+     * @return The template of this database used by the {@code template} clean mode, or {@code null} if this database
+     * doesn't support it.
+     */
+    public CleanTemplate getCleanTemplate(final String key) {
+        return null;
+    }
+
     public boolean supportsEmptyMigrationDescription() {
         return true;
     }
@@ -135,6 +135,25 @@ public abstract class Schema<D extends Database, T extends Table> {
      */
     protected abstract void doClean() throws SQLException;
 
+    /**
+     * Executes these DROP statements in order, sending them to the database in batches where it supports it.
+     *
+     * @throws SQLException when one of the statements failed.
+     */
+    protected final void executeDropStatements(final List<String> statements) throws SQLException {
+        final int batchSize = database.getCleanBatchSize();
+        if (batchSize <= 1 || statements.size() <= 1) {
+            for (final String statement : statements) {
+                jdbcTemplate.execute(statement);
+            }
+            return;
+        }
+
+        for (int i = 0; i < statements.size(); i += batchSize) {
+            database.executeDropBatch(jdbcTemplate, statements.subList(i, Math.min(i + batchSize, statements.size())));
+        }
+    }
+
     /**
      * Retrieves all the tables in this schema.
      */
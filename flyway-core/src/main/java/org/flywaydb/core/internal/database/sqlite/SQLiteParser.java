@@ -35,6 +35,12 @@ public class SQLiteParser extends Parser {
         return '`';
     }
 
+    @Override
+    protected int getMaxCoalescedInsertRows() {
+        // Older SQLite builds cap a VALUES list at SQLITE_MAX_COMPOUND_SELECT rows
+        return 500;
+    }
+
     @Override
     protected Boolean detectCanExecuteInTransaction(final String simplifiedStatement, final List<Token> keywords) {
         if ("PRAGMA FOREIGN_KEYS".equals(simplifiedStatement)) {
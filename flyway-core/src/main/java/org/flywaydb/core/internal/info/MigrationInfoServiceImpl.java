@@ -49,6 +49,22 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
      * The migrations infos calculated at the last refresh.
      */
     private List<MigrationInfoImpl> migrationInfos;
+    /**
+     * The context shared by the migration infos calculated at the last refresh.
+     */
+    private MigrationInfoContext context;
+    /**
+     * The position in {@link #migrationInfos} of each pending migration, keyed by its resolved migration.
+     */
+    private Map<ResolvedMigration, Integer> pendingIndexes;
+    /**
+     * The number of applied migrations the migration infos currently reflect.
+     */
+    private int appliedMigrationCount;
+    /**
+     * The installed rank of the latest applied migration the migration infos currently reflect.
+     */
+    private int lastInstalledRank;
     /**
      * Whether all the specified schemas are empty or not.
      */
@@ -159,6 +175,21 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
 
         Collections.sort(migrationInfos1);
         migrationInfos = migrationInfos1;
+        this.context = context;
+        appliedMigrationCount = appliedMigrations.size();
+        lastInstalledRank = appliedMigrations.isEmpty()
+            ? -1
+            : appliedMigrations.get(appliedMigrations.size() - 1).getInstalledRank();
+
+        pendingIndexes = new IdentityHashMap<>();
+        for (int i = 0; i < migrationInfos1.size(); i++) {
+            final MigrationInfoImpl migrationInfo = migrationInfos1.get(i);
+            if (migrationInfo.getResolvedMigration() != null
+                && migrationInfo.getAppliedMigration() == null
+                && MigrationState.PENDING == migrationInfo.getState()) {
+                pendingIndexes.put(migrationInfo.getResolvedMigration(), i);
+            }
+        }
 
         if (context.target == MigrationVersion.NEXT) {
             final MigrationInfo[] pendingMigrationInfos = pending();
@@ -170,6 +201,87 @@ public class MigrationInfoServiceImpl implements MigrationInfoService {
         }
     }
 
+    /**
+     * Brings the info about all known migrations up to date with the rows appended to the schema history table since
+     * the last refresh. As long as these rows are exactly the given migrations, the affected infos are updated in
+     * place, which keeps the cost independent of the size of the migration history. Any other change to the schema
+     * history table (e.g. made by a concurrent Flyway instance) falls back to a full {@link #refresh()}.
+     *
+     * @param appliedMigrationInfos The pending migrations applied since the last refresh, in the order they were
+     *                              applied.
+     * @return {@code true} if a full refresh was performed, {@code false} if the infos were updated in place.
+     */
+    public boolean refresh(final List<MigrationInfoImpl> appliedMigrationInfos) {
+        if (migrationInfos == null) {
+            refresh();
+            return true;
+        }
+
+        final List<AppliedMigration> appliedMigrations = schemaHistory.allAppliedMigrations();
+        if (appliedMigrations.size() != appliedMigrationCount + appliedMigrationInfos.size()
+            || (appliedMigrationCount > 0
+            && appliedMigrations.get(appliedMigrationCount - 1).getInstalledRank() != lastInstalledRank)) {
+            refresh();
+            return true;
+        }
+
+        final List<AppliedMigration> appendedMigrations = new ArrayList<>(appliedMigrationInfos.size());
+        final ListIterator<AppliedMigration> appendedIterator = appliedMigrations.listIterator(appliedMigrationCount);
+        for (final MigrationInfoImpl migrationInfo : appliedMigrationInfos) {
+            final AppliedMigration appliedMigration = appendedIterator.next();
+            if (!appliedMigration.isSuccess()
+                || !pendingIndexes.containsKey(migrationInfo.getResolvedMigration())
+                || !Objects.equals(appliedMigration.getVersion(), migrationInfo.getVersion())
+                || !Objects.equals(appliedMigration.getChecksum(), migrationInfo.getChecksum())) {
+                refresh();
+                return true;
+            }
+            appendedMigrations.add(appliedMigration);
+        }
+
+        for (int i = 0; i < appendedMigrations.size(); i++) {
+            markAsApplied(appliedMigrationInfos.get(i), appendedMigrations.get(i));
+        }
+        appliedMigrationCount = appliedMigrations.size();
+        if (!appendedMigrations.isEmpty()) {
+            lastInstalledRank = appendedMigrations.get(appendedMigrations.size() - 1).getInstalledRank();
+        }
+        return false;
+    }
+
+    /**
+     * Replaces the info of a pending migration with the info of its newly applied counterpart, updating the shared
+     * context the same way a full {@link #refresh()} would.
+     */
+    private void markAsApplied(final MigrationInfoImpl pendingMigrationInfo, final AppliedMigration appliedMigration) {
+        final MigrationVersion version = appliedMigration.getVersion();
+        boolean outOfOrder = false;
+        if (version == null) {
+            context.latestRepeatableRuns.put(appliedMigration.getDescription(), appliedMigration.getInstalledRank());
+        } else {
+            if (appliedMigration.getType().isBaseline() && (context.appliedBaseline == null
+                || version.isNewerThan(context.appliedBaseline.getVersion()))) {
+                context.appliedBaseline = version;
+            }
+            if (version.compareTo(context.lastApplied) > 0) {
+                if (appliedMigration.isVersioned()) {
+                    context.lastApplied = version;
+                }
+            } else {
+                outOfOrder = true;
+            }
+        }
+
+        final int index = pendingIndexes.remove(pendingMigrationInfo.getResolvedMigration());
+        migrationInfos.set(index,
+            new MigrationInfoImpl(pendingMigrationInfo.getResolvedMigration(),
+                appliedMigration,
+                context,
+                outOfOrder,
+                false,
+                false));
+    }
+
     private Map<Pair<MigrationVersion, MigrationType>, ResolvedMigration> getResolvedVersionedMigrations(final Collection<ResolvedMigration> resolvedMigrations,
         final MigrationInfoContext context) {
         final Map<Pair<MigrationVersion, MigrationType>, ResolvedMigration> resolvedVersionedMigrations = new TreeMap<>(
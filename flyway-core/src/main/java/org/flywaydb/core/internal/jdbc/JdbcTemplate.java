@@ -398,21 +398,17 @@ public class JdbcTemplate {
     public Results executeBatch(final Iterable<String> sqlBatch) {
         final Results results = new Results();
         Statement statement = null;
-        final StringBuilder sb = new StringBuilder();
+        final List<String> sqls = new ArrayList<>();
         try {
             statement = connection.createStatement();
             for (final String sql : sqlBatch) {
-                sb.append(sql);
+                sqls.add(sql);
                 statement.addBatch(sql);
             }
             try {
-                for (final int intResult : statement.executeBatch()) {
-                    results.addResult(new Result(intResult, null, null, sb.toString()));
-                }
+                addBatchResults(results, sqls, statement.executeBatch());
             } catch (final BatchUpdateException e) {
-                for (final int intResult : e.getUpdateCounts()) {
-                    results.addResult(new Result(intResult, null, null, sb.toString()));
-                }
+                addBatchResults(results, sqls, e.getUpdateCounts());
                 extractErrors(results, e);
             } finally {
                 extractWarnings(results, statement);
@@ -425,6 +421,15 @@ public class JdbcTemplate {
         return results;
     }
 
+    /**
+     * Adds a result for each of these update counts, referencing the SQL of the statement it belongs to.
+     */
+    private static void addBatchResults(final Results results, final List<String> sqls, final int[] updateCounts) {
+        for (int i = 0; i < updateCounts.length; i++) {
+            results.addResult(new Result(updateCounts[i], null, null, i < sqls.size() ? sqls.get(i) : null));
+        }
+    }
+
     @RequiredArgsConstructor
     @CustomLog
     private static class ResultStream extends InputStream {
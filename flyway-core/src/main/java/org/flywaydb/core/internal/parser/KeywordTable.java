@@ -0,0 +1,101 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.parser;
+
+import java.util.Collection;
+import java.util.Locale;
+
+/**
+ * An immutable, case-insensitive set of keywords, built once per parser. Lookups fold the case of the candidate as they
+ * hash and compare it, so checking a token doesn't require an upper-cased copy of its text.
+ */
+final class KeywordTable {
+    private final char[][] slots;
+    private final int mask;
+
+    KeywordTable(final Collection<String> keywords) {
+        int capacity = 16;
+        while (capacity < keywords.size() * 2) {
+            capacity <<= 1;
+        }
+        slots = new char[capacity][];
+        mask = capacity - 1;
+        for (final String keyword : keywords) {
+            final String upperCase = keyword.toUpperCase(Locale.ENGLISH);
+            int slot = hash(upperCase) & mask;
+            while (slots[slot] != null) {
+                if (matches(slots[slot], upperCase)) {
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = upperCase.toCharArray();
+        }
+    }
+
+    /**
+     * @return Whether this text is one of the keywords, ignoring case.
+     */
+    boolean contains(final CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 127) {
+                // Leave the rarer case-folding rules of non-ASCII text to String
+                return lookup(text.toString().toUpperCase(Locale.ENGLISH));
+            }
+        }
+        return lookup(text);
+    }
+
+    private boolean lookup(final CharSequence text) {
+        int slot = hash(text) & mask;
+        char[] keyword;
+        while ((keyword = slots[slot]) != null) {
+            if (matches(keyword, text)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    private static int hash(final CharSequence text) {
+        int h = 0;
+        for (int i = 0; i < text.length(); i++) {
+            h = 31 * h + toUpperCase(text.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(final char[] keyword, final CharSequence text) {
+        if (keyword.length != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < keyword.length; i++) {
+            if (keyword[i] != toUpperCase(text.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char toUpperCase(final char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+}
@@ -43,16 +43,21 @@ import java.util.regex.Pattern;
 @CustomLog
 public abstract class Parser {
     /**
-     * Regex to determine whether this statement can be run as part of batch or whether it must be run individually.
+     * The simplified statements that can be run as part of a batch. All others must be run individually.
      */
-    private static final Pattern BATCHABLE_REGEX = Pattern.compile("^(INSERT|UPDATE|DELETE|UPSERT|MERGE)");
+    private static final String[] BATCHABLE_STATEMENTS = { "INSERT", "UPDATE", "DELETE", "UPSERT", "MERGE" };
 
     public final Configuration configuration;
     private final int peekDepth;
     private final char identifierQuote;
     private final char alternativeIdentifierQuote;
     private final char alternativeStringLiteralQuote;
-    private final Set<String> validKeywords;
+    private final KeywordTable validKeywords;
+    /**
+     * The maximum number of rows to combine single-row INSERTs into, or 0 if they are not to be recognised.
+     */
+    private final int maxCoalescedInsertRows;
+    private final long maxCoalescedInsertBytes;
     public final ParsingContext parsingContext;
 
     protected Parser(final Configuration configuration, final ParsingContext parsingContext, final int peekDepth) {
@@ -61,7 +66,12 @@ public abstract class Parser {
         this.identifierQuote = getIdentifierQuote();
         this.alternativeIdentifierQuote = getAlternativeIdentifierQuote();
         this.alternativeStringLiteralQuote = getAlternativeStringLiteralQuote();
-        this.validKeywords = getValidKeywords();
+        final Set<String> validKeywords = getValidKeywords();
+        this.validKeywords = validKeywords == null ? null : new KeywordTable(validKeywords);
+        this.maxCoalescedInsertRows = configuration != null && configuration.getPluginRegister()
+            .getExact(SqlScriptExecutionConfigurationExtension.class)
+            .isCoalesceInsertsEnabled() ? getMaxCoalescedInsertRows() : 0;
+        this.maxCoalescedInsertBytes = getMaxCoalescedInsertBytes();
         this.parsingContext = parsingContext;
     }
 
@@ -97,6 +107,22 @@ public abstract class Parser {
         return true;
     }
 
+    /**
+     * @return The maximum number of rows this database accepts in a single {@code INSERT ... VALUES} statement, or 0 if
+     * single-row INSERTs should never be combined into multi-row ones.
+     */
+    protected int getMaxCoalescedInsertRows() {
+        return 0;
+    }
+
+    /**
+     * @return The maximum size in bytes of a multi-row {@code INSERT} combined from single-row ones, for databases that
+     * limit the size of a statement more tightly than the batch size limit does.
+     */
+    protected long getMaxCoalescedInsertBytes() {
+        return Long.MAX_VALUE;
+    }
+
     public final SqlStatementIterator parse(final LoadableResource resource) {
         return parse(resource, null);
     }
@@ -111,22 +137,33 @@ public abstract class Parser {
     public final SqlStatementIterator parse(final LoadableResource resource, final SqlScriptMetadata metadata) {
         final PositionTracker tracker = new PositionTracker();
         final Recorder recorder = new Recorder();
-        final ParserContext context = new ParserContext(getDefaultDelimiter());
+        final ParserContext context = createParserContext();
 
         final String filename = resource.getFilename();
         LOG.debug("Parsing " + filename + " ...");
 
         final ResourceName result = new ResourceNameParser(configuration).parse(filename);
-        parsingContext.updateFilenamePlaceholder(result, configuration);
 
-        final PeekingReader peekingReader = new PeekingReader(new RecordingReader(recorder,
-            new PositionTrackingReader(tracker,
-                replacePlaceholders(new BomStrippingReader(new UnboundedReadAheadReader(new BufferedReader(resource.read(),
-                    4096))), metadata))), supportsPeekingMultipleLines());
+        final PeekingReader peekingReader;
+        // Scripts may be parsed concurrently, so the filename placeholder must not change before it is captured
+        synchronized (parsingContext) {
+            parsingContext.updateFilenamePlaceholder(result, configuration);
+
+            peekingReader = new PeekingReader(replacePlaceholders(new BomStrippingReader(new BufferedReader(resource.read(),
+                4096)), metadata), supportsPeekingMultipleLines(), tracker, recorder);
+        }
 
         return new ParserSqlStatementIterator(peekingReader, resource, recorder, tracker, context);
     }
 
+    /**
+     * Creates the parsing state for a single script. Dialects that need state of their own while parsing extend
+     * {@link ParserContext} rather than keeping it in the parser, which is shared between scripts and threads.
+     */
+    protected ParserContext createParserContext() {
+        return new ParserContext(getDefaultDelimiter());
+    }
+
     /**
      * Configures this reader for placeholder replacement.
      *
@@ -155,7 +192,7 @@ public abstract class Parser {
         int statementCol = tracker.getCol();
 
         try {
-            final List<Token> tokens = new ArrayList<>();
+            final List<Token> tokens = new TokenWindow();
             final List<Token> keywords = new ArrayList<>();
 
             int statementPos = -1;
@@ -169,7 +206,11 @@ public abstract class Parser {
             Boolean canExecuteInTransaction = null;
             Boolean batchable = null;
 
-            String simplifiedStatement = "";
+            final SimplifiedStatement simplifiedStatement = new SimplifiedStatement();
+
+            // Tracks whether this is an INSERT of a single row with VALUES, which can be combined with others
+            boolean insertCandidate = false;
+            int insertValuesEnd = -1;
 
             do {
                 final Token token = readToken(reader, tracker, context);
@@ -178,7 +219,7 @@ public abstract class Parser {
                         recorder.start();
                         statementLine = tracker.getLine();
                         statementCol = tracker.getCol();
-                        simplifiedStatement = "";
+                        simplifiedStatement.clear();
                     } else {
                         recorder.confirm();
                     }
@@ -202,7 +243,7 @@ public abstract class Parser {
                     recorder.start();
                     statementLine = tracker.getLine();
                     statementCol = tracker.getCol();
-                    simplifiedStatement = "";
+                    simplifiedStatement.clear();
                     continue;
                 }
 
@@ -211,12 +252,13 @@ public abstract class Parser {
                     recorder.start();
                     statementLine = tracker.getLine();
                     statementCol = tracker.getCol();
-                    simplifiedStatement = "";
+                    simplifiedStatement.clear();
                     continue;
                 }
 
                 if (shouldAdjustBlockDepth(context, tokens, token)) {
-                    if (tokenType == TokenType.KEYWORD) {
+                    // Only the count matters once past the cutoff
+                    if (tokenType == TokenType.KEYWORD && keywords.size() <= getTransactionalDetectionCutoff()) {
                         keywords.add(token);
                     }
                     adjustBlockDepth(context, tokens, token, reader);
@@ -227,14 +269,16 @@ public abstract class Parser {
                 if (TokenType.EOF == tokenType || (TokenType.DELIMITER == tokenType
                     && parensDepth == 0
                     && blockDepth == 0)) {
-                    final String sql = recorder.stop();
-                    if (TokenType.EOF == tokenType && (sql.trim().isEmpty()
+                    final String sql = recorder.stopTrimmed();
+                    if (TokenType.EOF == tokenType && (sql.isEmpty()
                         || tokens.isEmpty()
                         || nonCommentPartPos < 0)) {
                         return null;
                     }
                     if (canExecuteInTransaction == null) {
-                        canExecuteInTransaction = determineCanExecuteInTransaction(simplifiedStatement, keywords, true);
+                        canExecuteInTransaction = determineCanExecuteInTransaction(simplifiedStatement.toString(),
+                            keywords,
+                            true);
                     }
                     if (batchable == null) {
                         batchable = false;
@@ -247,7 +291,7 @@ public abstract class Parser {
                             + ": "
                             + sql);
                     }
-                    return createStatement(reader,
+                    final ParsedSqlStatement statement = createStatement(reader,
                         recorder,
                         statementPos,
                         statementLine,
@@ -258,9 +302,13 @@ public abstract class Parser {
                         statementType,
                         canExecuteInTransaction,
                         context.getDelimiter(),
-                        sql.trim(),
+                        sql,
                         discardBlankLines(tokens),
                         batchable);
+                    if (insertCandidate && insertValuesEnd >= 0) {
+                        return toSingleRowInsert(statement, context.getDelimiter(), insertValuesEnd - statementPos);
+                    }
+                    return statement;
                 }
 
                 if (tokens.isEmpty() || tokens.stream()
@@ -282,30 +330,39 @@ public abstract class Parser {
                     nonCommentPartPos = token.getPos();
                     nonCommentPartLine = token.getLine();
                     nonCommentPartCol = token.getCol();
+                    insertCandidate = maxCoalescedInsertRows > 0
+                        && nonCommentPartPos == statementPos
+                        && isTopLevelKeyword(token, "INSERT");
+                } else if (insertCandidate && insertValuesEnd < 0) {
+                    if (isTopLevelKeyword(token, "VALUES")) {
+                        insertValuesEnd = token.getPos() + token.getText().length();
+                    }
+                } else if (insertCandidate && token.getParensDepth() == 0) {
+                    // Anything after the first row, such as another row or RETURNING, rules out combining
+                    insertCandidate = false;
                 }
 
                 if (keywords.size() <= getTransactionalDetectionCutoff() && (tokenType == TokenType.KEYWORD
                     || "@".equals(token.getText())) && parensDepth == 0 && (statementType == StatementType.UNKNOWN
                     || canExecuteInTransaction == null)) {
-                    if (!simplifiedStatement.isEmpty()) {
-                        simplifiedStatement += " ";
-                    }
-                    simplifiedStatement += token.getText().toUpperCase(Locale.ENGLISH);
+                    simplifiedStatement.append(token.getText());
 
                     if (statementType == StatementType.UNKNOWN) {
                         if (keywords.size() > getTransactionalDetectionCutoff()) {
                             statementType = StatementType.GENERIC;
                         } else {
-                            statementType = detectStatementType(simplifiedStatement, context, reader);
+                            statementType = detectStatementType(simplifiedStatement.toString(), context, reader);
                             context.setStatementType(statementType);
                         }
                         adjustDelimiter(context, statementType);
                     }
                     if (canExecuteInTransaction == null) {
-                        canExecuteInTransaction = determineCanExecuteInTransaction(simplifiedStatement, keywords, null);
+                        canExecuteInTransaction = determineCanExecuteInTransaction(simplifiedStatement.toString(),
+                            keywords,
+                            null);
                     }
                     if (batchable == null) {
-                        batchable = BATCHABLE_REGEX.matcher(simplifiedStatement).matches();
+                        batchable = simplifiedStatement.equalsAnyOf(BATCHABLE_STATEMENTS);
                     }
                 }
             } while (true);
@@ -325,6 +382,41 @@ public abstract class Parser {
         }
     }
 
+    private static boolean isTopLevelKeyword(final Token token, final String keyword) {
+        return token.getType() == TokenType.KEYWORD
+            && token.getParensDepth() == 0
+            && keyword.equalsIgnoreCase(token.getText());
+    }
+
+    /**
+     * Turns this statement into a {@link SingleRowInsertStatement} if it is a plain statement whose SQL has a single
+     * parenthesised row right after {@code VALUES}.
+     */
+    private ParsedSqlStatement toSingleRowInsert(final ParsedSqlStatement statement,
+        final Delimiter delimiter,
+        final int valuesEnd) {
+        final String sql = statement.getSql();
+        if (statement.getClass() != ParsedSqlStatement.class
+            || valuesEnd > sql.length()
+            || !sql.regionMatches(true, valuesEnd - "VALUES".length(), "VALUES", 0, "VALUES".length())) {
+            return statement;
+        }
+        final String row = sql.substring(valuesEnd).trim();
+        if (row.length() < 2 || row.charAt(0) != '(' || row.charAt(row.length() - 1) != ')') {
+            return statement;
+        }
+        return new SingleRowInsertStatement(statement.getPos(),
+            statement.getLine(),
+            statement.getCol(),
+            sql,
+            delimiter,
+            statement.canExecuteInTransaction(),
+            statement.isBatchable(),
+            valuesEnd,
+            maxCoalescedInsertRows,
+            maxCoalescedInsertBytes);
+    }
+
     protected boolean shouldAdjustBlockDepth(final ParserContext context, final List<Token> tokens, final Token token) {
         return token.getType() == TokenType.KEYWORD && token.getParensDepth() == 0;
     }
@@ -648,7 +740,7 @@ public abstract class Parser {
             }
         }
         if (validKeywords != null) {
-            return validKeywords.contains(text.toUpperCase(Locale.ENGLISH));
+            return validKeywords.contains(text);
         }
         return true;
     }
@@ -51,11 +51,31 @@ public class ParsingContext {
     @Setter
     private Database database;
 
+    /**
+     * The name of the filename placeholder and the filename it currently stands for, which is {@code null} while
+     * there is none. These change for every script, so the filename is resolved by the reader instead of compiled.
+     */
+    private String filenamePlaceholder;
+    private String filename;
+
+    /**
+     * The configuration placeholders {@link #placeholderTrie} was compiled from, together with the placeholders of this
+     * context. It is reused until either changes.
+     */
+    private Map<String, String> compiledConfigurationPlaceholders;
+    private PlaceholderTrie placeholderTrie;
+    /**
+     * The context this is a copy of, whose compiled placeholders are shared for as long as this isn't populated itself.
+     */
+    private ParsingContext source;
+
     private String generateName(final String name, final Configuration configuration) {
         return "flyway" + configuration.getPlaceholderSeparator() + name;
     }
 
-    public void populate(final NativeConnectorsDatabase database, final Configuration configuration) {
+    public synchronized void populate(final NativeConnectorsDatabase database, final Configuration configuration) {
+        placeholderTrie = null;
+        source = null;
         String defaultSchemaName = configuration.getDefaultSchema();
         final String[] schemaNames = configuration.getSchemas();
         if (defaultSchemaName == null) {
@@ -82,7 +102,9 @@ public class ParsingContext {
             configuration.getCurrentEnvironmentName());
     }
 
-    public void populate(final Database database, final Configuration configuration) {
+    public synchronized void populate(final Database database, final Configuration configuration) {
+        placeholderTrie = null;
+        source = null;
         setDatabase(database);
 
         String defaultSchemaName = configuration.getDefaultSchema();
@@ -121,15 +143,79 @@ public class ParsingContext {
             configuration.getCurrentEnvironmentName());
     }
 
-    public void updateFilenamePlaceholder(final ResourceName resourceName, final Configuration configuration) {
-        final String filenamePlaceholder = generateName(FILENAME_PLACEHOLDER, configuration);
-        if (resourceName.isValid()) {
-            placeholders.put(filenamePlaceholder, resourceName.getFilename());
+    /**
+     * Creates a copy of this context with its own placeholders, so that its filename placeholder can be updated
+     * without affecting other users of this context.
+     */
+    public synchronized ParsingContext copy() {
+        final ParsingContext copy = new ParsingContext();
+        copy.setDatabase(database);
+        copy.placeholders.putAll(placeholders);
+        copy.filenamePlaceholder = filenamePlaceholder;
+        copy.filename = filename;
+        copy.source = this;
+        return copy;
+    }
+
+    public synchronized void updateFilenamePlaceholder(final ResourceName resourceName,
+        final Configuration configuration) {
+        final String name = generateName(FILENAME_PLACEHOLDER, configuration);
+        if (!name.equals(filenamePlaceholder)) {
+            filenamePlaceholder = name;
+            placeholderTrie = null;
+            source = null;
+        }
+        filename = resourceName.isValid() ? resourceName.getFilename() : null;
+        if (filename != null) {
+            placeholders.put(filenamePlaceholder, filename);
         } else {
             placeholders.remove(filenamePlaceholder);
         }
     }
 
+    synchronized String getFilenamePlaceholder() {
+        return filenamePlaceholder;
+    }
+
+    /**
+     * @return The filename the filename placeholder currently stands for, or {@code null} if there is none.
+     */
+    synchronized String getFilename() {
+        return filename;
+    }
+
+    /**
+     * @return These configuration placeholders and the placeholders of this context compiled for replacement, reusing
+     * the result of the previous call if neither changed. The filename placeholder is left out, to be resolved by the
+     * reader from {@link #getFilename()}, so that the result can be reused across scripts.
+     */
+    synchronized PlaceholderTrie compilePlaceholders(final Map<String, String> configurationPlaceholders) {
+        if (source != null) {
+            // The source leaves out the same filename placeholder, if it has one at all
+            final String sourceFilenamePlaceholder = source.getFilenamePlaceholder();
+            if (sourceFilenamePlaceholder == null || sourceFilenamePlaceholder.equals(filenamePlaceholder)) {
+                return source.compilePlaceholders(configurationPlaceholders);
+            }
+        }
+
+        if (placeholderTrie == null || (configurationPlaceholders != compiledConfigurationPlaceholders
+            && !configurationPlaceholders.equals(compiledConfigurationPlaceholders))) {
+            final Map<String, String> compiledPlaceholders = new HashMap<>(configurationPlaceholders);
+            compiledPlaceholders.putAll(placeholders);
+            if (filenamePlaceholder != null) {
+                compiledPlaceholders.remove(filenamePlaceholder);
+                if (configurationPlaceholders.containsKey(filenamePlaceholder)) {
+                    compiledPlaceholders.put(filenamePlaceholder, configurationPlaceholders.get(filenamePlaceholder));
+                }
+            }
+            compiledConfigurationPlaceholders = configurationPlaceholders;
+            placeholderTrie = compiledPlaceholders.isEmpty()
+                ? PlaceholderTrie.EMPTY
+                : new PlaceholderTrie(compiledPlaceholders);
+        }
+        return placeholderTrie;
+    }
+
     private Schema getCurrentSchema(final Database database) {
         try {
             return database.getMainConnection().getCurrentSchema();
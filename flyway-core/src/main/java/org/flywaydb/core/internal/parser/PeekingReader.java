@@ -24,23 +24,154 @@ import org.flywaydb.core.internal.sqlscript.Delimiter;
 import java.io.FilterReader;
 import java.io.IOException;
 import java.io.Reader;
-import java.util.Arrays;
 
+/**
+ * Array-backed cursor over the characters of a script. Characters are pulled from the underlying reader in blocks,
+ * peeks are served straight from the buffer and position tracking and recording happen once, when a character is
+ * consumed.
+ */
 public class PeekingReader extends FilterReader {
-    private int[] peekBuffer = new int[256];
-    private int peekMax = 0;
-    private int peekBufferOffset = 0;
-    private final boolean supportsPeekingMultipleLines;
+    /**
+     * Returned by reads and peeks once the stream is exhausted.
+     */
+    private static final int EOF = -1;
+    private static final int BLOCK_SIZE = 4096;
+    /**
+     * The smallest free space worth handing to the underlying reader before compacting the buffer.
+     */
+    private static final int MIN_FILL = BLOCK_SIZE / 4;
 
-    PeekingReader(final Reader in, final boolean supportsPeekingMultipleLines) {
+    private final boolean supportsPeekingMultipleLines;
+    private final PositionTracker tracker;
+    private final Recorder recorder;
+
+    private char[] buffer = new char[BLOCK_SIZE];
+    private int position = 0;
+    private int limit = 0;
+    private boolean eof = false;
+
+    PeekingReader(final Reader in,
+        final boolean supportsPeekingMultipleLines,
+        final PositionTracker tracker,
+        final Recorder recorder) {
         super(in);
         this.supportsPeekingMultipleLines = supportsPeekingMultipleLines;
+        this.tracker = tracker;
+        this.recorder = recorder;
     }
 
     @Override
     public int read() throws IOException {
-        peekBufferOffset++;
-        return super.read();
+        if (position == limit && !fill(1)) {
+            return EOF;
+        }
+        final char c = buffer[position++];
+        consumed(c);
+        return c;
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (position == limit && !fill(1)) {
+            return EOF;
+        }
+        final int count = Math.min(len, limit - position);
+        for (int i = 0; i < count; i++) {
+            final char c = buffer[position++];
+            consumed(c);
+            cbuf[off + i] = c;
+        }
+        return count;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && read() != EOF) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean ready() throws IOException {
+        return position < limit || (!eof && in.ready());
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public void mark(final int readAheadLimit) throws IOException {
+        throw new IOException("mark() not supported");
+    }
+
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset() not supported");
+    }
+
+    private void consumed(final char c) {
+        tracker.nextPos();
+        if (c == '\n') {
+            tracker.linefeed();
+        } else if (c == '\r') {
+            tracker.carriageReturn();
+        } else {
+            if (!Character.isWhitespace(c)) {
+                tracker.nextColIgnoringWhitespace();
+            }
+            tracker.nextCol();
+        }
+        recorder.record(c);
+    }
+
+    /**
+     * Pulls blocks from the underlying reader until at least this number of characters is buffered ahead of the
+     * cursor or the end of the stream has been reached.
+     *
+     * @return {@code true} if enough characters are available, {@code false} if the stream ended first.
+     */
+    private boolean fill(final int numChars) throws IOException {
+        while (limit - position < numChars && !eof) {
+            if (buffer.length - limit < MIN_FILL) {
+                makeRoom(numChars);
+            }
+            final int read = in.read(buffer, limit, buffer.length - limit);
+            if (read == EOF) {
+                eof = true;
+            } else {
+                limit += read;
+            }
+        }
+        return limit - position >= numChars;
+    }
+
+    /**
+     * Moves the unconsumed characters to the start of the buffer, reusing it where possible. The buffer only grows
+     * for peeks wider than it, and goes back to its regular size as soon as the lookahead fits again, so a single
+     * long literal does not pin a large array for the rest of the script.
+     */
+    private void makeRoom(final int numChars) {
+        final int available = limit - position;
+        final int required = Math.max(numChars, available) + MIN_FILL;
+        final char[] target;
+        if (required > buffer.length) {
+            target = new char[Math.max(buffer.length * 2, required)];
+        } else if (buffer.length > BLOCK_SIZE && required <= BLOCK_SIZE) {
+            target = new char[BLOCK_SIZE];
+        } else {
+            target = buffer;
+        }
+        System.arraycopy(buffer, position, target, 0, available);
+        buffer = target;
+        position = 0;
+        limit = available;
     }
 
     /**
@@ -62,26 +193,10 @@ public class PeekingReader extends FilterReader {
     }
 
     private int peek() throws IOException {
-        if (peekBufferOffset >= peekMax) {
-            refillPeekBuffer();
+        if (position == limit && !fill(1)) {
+            return EOF;
         }
-
-        return peekBuffer[peekBufferOffset];
-    }
-
-    private void refillPeekBuffer() throws IOException {
-        mark(peekBuffer.length);
-        peekMax = peekBuffer.length;
-        peekBufferOffset = 0;
-        for (int i = 0; i < peekBuffer.length; i++) {
-            final int read = super.read();
-            peekBuffer[i] = read;
-            if (!supportsPeekingMultipleLines && read == '\n') {
-                peekMax = i;
-                break;
-            }
-        }
-        reset();
+        return buffer[position];
     }
 
     /**
@@ -92,7 +207,7 @@ public class PeekingReader extends FilterReader {
      */
     public boolean peek(final char c) throws IOException {
         final int r = peek();
-        return r != -1 && c == (char) r;
+        return r != EOF && c == (char) r;
     }
 
     /**
@@ -104,7 +219,7 @@ public class PeekingReader extends FilterReader {
      */
     public boolean peek(final char c1, final char c2) throws IOException {
         final int r = peek();
-        return r != -1 && (c1 == (char) r || c2 == (char) r);
+        return r != EOF && (c1 == (char) r || c2 == (char) r);
     }
 
     /**
@@ -118,7 +233,7 @@ public class PeekingReader extends FilterReader {
     }
 
     private boolean isNumeric(final int r) {
-        return r != -1 && (char) r >= '0' && (char) r <= '9';
+        return r != EOF && (char) r >= '0' && (char) r <= '9';
     }
 
     /**
@@ -132,7 +247,7 @@ public class PeekingReader extends FilterReader {
     }
 
     private boolean isWhitespace(final int r) {
-        return r != -1 && Character.isWhitespace((char) r);
+        return r != EOF && Character.isWhitespace((char) r);
     }
 
     /**
@@ -146,14 +261,14 @@ public class PeekingReader extends FilterReader {
     }
 
     private boolean isKeywordPart(final int r, final ParserContext context) {
-        return r != -1 && ((char) r == '_'
+        return r != EOF && ((char) r == '_'
             || (char) r == '$'
             || Character.isLetterOrDigit((char) r)
             || context.isLetter((char) r));
     }
 
     public boolean peekIgnoreCase(final String str) throws IOException {
-        return str.equalsIgnoreCase(peek(str.length()));
+        return peekMatches(str, true);
     }
 
     /**
@@ -163,7 +278,32 @@ public class PeekingReader extends FilterReader {
      * @return {@code true} if they do, {@code false} if not.
      */
     public boolean peek(final String str) throws IOException {
-        return str.equals(peek(str.length()));
+        return peekMatches(str, false);
+    }
+
+    private boolean peekMatches(final String str, final boolean ignoreCase) throws IOException {
+        final int length = str.length();
+        if (length == 0 || !fill(length)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            final char c = buffer[position + i];
+            // A single-line peek never sees past the first linefeed
+            if (c == '\n' && i < length - 1) {
+                return false;
+            }
+            final char expected = str.charAt(i);
+            if (c != expected && !(ignoreCase && equalsIgnoreCase(c, expected))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean equalsIgnoreCase(final char c1, final char c2) {
+        final char u1 = Character.toUpperCase(c1);
+        final char u2 = Character.toUpperCase(c2);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
     }
 
     /**
@@ -184,39 +324,19 @@ public class PeekingReader extends FilterReader {
      * @return The characters.
      */
     public String peek(final int numChars, final boolean peekMultipleLines) throws IOException {
-        // If we need to peek beyond the physical size of the peek buffer - eg. we have encountered a very
-        // long string literal - then expand the buffer to be big enough to contain it.
-        if (numChars >= peekBuffer.length) {
-            resizePeekBuffer(numChars);
-        }
-
-        if (peekBufferOffset + numChars >= peekMax) {
-            refillPeekBuffer();
-        }
-
-        final StringBuilder result = new StringBuilder();
-        int prevR = -1;
-        for (int i = 0; i < numChars; i++) {
-            final int r = peekBuffer[peekBufferOffset + i];
-            if (r == -1) {
-                break;
-            } else if (peekBufferOffset + i > peekMax) {
-                break;
-            } else if (!peekMultipleLines && prevR == '\n') {
+        fill(numChars);
+        final boolean acrossLines = peekMultipleLines && supportsPeekingMultipleLines;
+        final int end = Math.min(limit, position + numChars);
+        int i = position;
+        while (i < end) {
+            if (buffer[i++] == '\n' && !acrossLines) {
                 break;
             }
-            result.append((char) r);
-
-            prevR = r;
         }
-        if (result.length() == 0) {
+        if (i == position) {
             return null;
         }
-        return result.toString();
-    }
-
-    private void resizePeekBuffer(final int newSize) {
-        peekBuffer = Arrays.copyOf(peekBuffer, newSize + peekBufferOffset);
+        return new String(buffer, position, i - position);
     }
 
     /**
@@ -231,7 +351,7 @@ public class PeekingReader extends FilterReader {
                 break;
             }
             final int r = read();
-            if (r == -1) {
+            if (r == EOF) {
                 break;
             }
         } while (true);
@@ -251,7 +371,7 @@ public class PeekingReader extends FilterReader {
                 break;
             }
             final int r = read();
-            if (r == -1) {
+            if (r == EOF) {
                 break;
             } else {
                 result.append((char) r);
@@ -283,7 +403,7 @@ public class PeekingReader extends FilterReader {
         throws IOException {
         do {
             final int r = read();
-            if (r == -1) {
+            if (r == EOF) {
                 break;
             }
             final char c = (char) r;
@@ -327,13 +447,13 @@ public class PeekingReader extends FilterReader {
         final StringBuilder result = new StringBuilder();
         do {
             final int r = read();
-            if (r == -1) {
+            if (r == EOF) {
                 break;
             }
             final char c = (char) r;
             if (escape != 0 && c == escape) {
                 final int r2 = read();
-                if (r2 == -1) {
+                if (r2 == EOF) {
                     result.append(escape);
                     break;
                 }
@@ -366,7 +486,7 @@ public class PeekingReader extends FilterReader {
                 break;
             }
             final int r = read();
-            if (r == -1) {
+            if (r == EOF) {
                 break;
             }
         } while (true);
@@ -387,7 +507,7 @@ public class PeekingReader extends FilterReader {
                 }
             }
             final int r = read();
-            if (r == -1) {
+            if (r == EOF) {
                 break;
             } else {
                 result.append((char) r);
@@ -406,7 +526,7 @@ public class PeekingReader extends FilterReader {
         final StringBuilder result = new StringBuilder();
         do {
             final int r = read();
-            if (r == -1) {
+            if (r == EOF) {
                 break;
             }
             final char c = (char) r;
@@ -26,243 +26,372 @@ import org.flywaydb.core.api.configuration.Configuration;
 import java.io.FilterReader;
 import java.io.IOException;
 import java.io.Reader;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 
+/**
+ * Replaces the placeholders in the text read from another reader. The input is scanned a block at a time for the
+ * prefix, and the names of placeholders are looked up in a {@link PlaceholderTrie} compiled once per
+ * {@link ParsingContext}. The filename placeholder differs from one script to the next, so it is looked up separately.
+ */
 public class PlaceholderReplacingReader extends FilterReader {
+    private static final int BLOCK_SIZE = 4096;
+
     private final String prefix;
     private final String suffix;
     private final String separator;
-    private final CaseInsensitiveMap placeholders = new CaseInsensitiveMap();
-
-    private final StringBuilder buffer = new StringBuilder();
-    private String markBuffer;
+    private final PlaceholderTrie placeholders;
+    /**
+     * The name of the filename placeholder and the filename it stands for, which take precedence over the other
+     * placeholders. Either is {@code null} if there is none.
+     */
+    private final String filenamePlaceholder;
+    private final String filename;
+    /**
+     * The first character of the prefix, or -1 if there is no prefix.
+     */
+    private final int prefixStart;
+
+    /**
+     * The input read ahead, from {@link #position} up to {@link #limit}.
+     */
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private boolean eof;
+    /**
+     * The number of characters at {@link #position} already ruled out as the start of a placeholder.
+     */
+    private int literal;
+
+    /**
+     * The name of the placeholder being read, reused from one placeholder to the next.
+     */
+    private char[] name = new char[64];
 
     private String replacement;
     private int replacementPos;
 
-    private String markReplacement;
-    private int markReplacementPos;
-
-    private static class CaseInsensitiveMap extends HashMap<String, String> {
-
-        @Override
-        public void putAll(final Map<? extends String, ? extends String> m) {
-            for (final Map.Entry<? extends String, ? extends String> e : m.entrySet()) {
-                put(e.getKey(), e.getValue());
-            }
-        }
-
-        @Override
-        public String put(final String key, final String value) {
-            return super.put(key.toLowerCase(), value);
-        }
+    private final char[] single = new char[1];
 
-        @Override
-        public String get(final Object key) {
-            return super.get(key.toString().toLowerCase());
-        }
-
-        @Override
-        public boolean containsKey(final Object key) {
-            return super.containsKey(key.toString().toLowerCase());
-        }
-    }
+    private RuntimeException pendingFailure;
 
     public PlaceholderReplacingReader(final String prefix,
         final String suffix,
         final String separator,
         final Map<String, String> placeholders,
         final Reader in) {
+        this(prefix, suffix, separator, new PlaceholderTrie(placeholders), null, null, in);
+    }
+
+    private PlaceholderReplacingReader(final String prefix,
+        final String suffix,
+        final String separator,
+        final PlaceholderTrie placeholders,
+        final String filenamePlaceholder,
+        final String filename,
+        final Reader in) {
         super(in);
         this.prefix = prefix;
         this.suffix = suffix;
         this.separator = separator;
-        this.placeholders.putAll(placeholders);
+        this.placeholders = placeholders;
+        this.filenamePlaceholder = filenamePlaceholder;
+        this.filename = filename;
+        this.prefixStart = prefix.isEmpty() ? -1 : prefix.charAt(0);
+        this.buffer = new char[Math.max(BLOCK_SIZE, prefix.length())];
     }
 
     public static PlaceholderReplacingReader create(final Configuration configuration,
         final ParsingContext parsingContext,
         final Reader reader) {
-        final Map<String, String> placeholders = new HashMap<>();
-        final Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-        final Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
-
-        placeholders.putAll(configurationPlaceholders);
-        placeholders.putAll(parsingContextPlaceholders);
-
-        return new PlaceholderReplacingReader(configuration.getPlaceholderPrefix(),
+        return create(configuration.getPlaceholderPrefix(),
             configuration.getPlaceholderSuffix(),
             configuration.getPlaceholderSeparator(),
-            placeholders,
+            configuration,
+            parsingContext,
             reader);
     }
 
     public static PlaceholderReplacingReader create(final Configuration configuration,
         final ParsingContext parsingContext,
         final LoadableMigrationInfo info) {
-        final Map<String, String> placeholders = new HashMap<>();
-        final Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-        final Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
-
         final boolean placeholderReplacement = info.isPlaceholderReplacement() == null
             ? configuration.isPlaceholderReplacement()
             : info.isPlaceholderReplacement();
-        if (placeholderReplacement) {
-            placeholders.putAll(configurationPlaceholders);
-            placeholders.putAll(parsingContextPlaceholders);
+        if (!placeholderReplacement) {
+            return new PlaceholderReplacingReader(configuration.getPlaceholderPrefix(),
+                configuration.getPlaceholderSuffix(),
+                configuration.getPlaceholderSeparator(),
+                PlaceholderTrie.EMPTY,
+                null,
+                null,
+                info.getLoadableResource().read());
         }
-        return new PlaceholderReplacingReader(configuration.getPlaceholderPrefix(),
+        return create(configuration.getPlaceholderPrefix(),
             configuration.getPlaceholderSuffix(),
             configuration.getPlaceholderSeparator(),
-            placeholders,
+            configuration,
+            parsingContext,
             info.getLoadableResource().read());
     }
 
     public static PlaceholderReplacingReader createForScriptMigration(final Configuration configuration,
         final ParsingContext parsingContext,
         final Reader reader) {
-        final Map<String, String> placeholders = new HashMap<>();
-        final Map<String, String> configurationPlaceholders = configuration.getPlaceholders();
-        final Map<String, String> parsingContextPlaceholders = parsingContext.getPlaceholders();
-
-        placeholders.putAll(configurationPlaceholders);
-        placeholders.putAll(parsingContextPlaceholders);
-
-        return new PlaceholderReplacingReader(configuration.getScriptPlaceholderPrefix(),
+        return create(configuration.getScriptPlaceholderPrefix(),
             configuration.getScriptPlaceholderSuffix(),
             "_",
-            placeholders,
+            configuration,
+            parsingContext,
             reader);
     }
 
+    private static PlaceholderReplacingReader create(final String prefix,
+        final String suffix,
+        final String separator,
+        final Configuration configuration,
+        final ParsingContext parsingContext,
+        final Reader reader) {
+        synchronized (parsingContext) {
+            return new PlaceholderReplacingReader(prefix,
+                suffix,
+                separator,
+                parsingContext.compilePlaceholders(configuration.getPlaceholders()),
+                parsingContext.getFilenamePlaceholder(),
+                parsingContext.getFilename(),
+                reader);
+        }
+    }
+
     @Override
     public int read() throws IOException {
-        if (replacement == null) {
-
-            // if we have a previous read, then consume it
-            if (buffer.length() > 0) {
-                final char c = buffer.charAt(0);
-                buffer.deleteCharAt(0);
-                return c;
-            }
-
-            // else read ahead by the prefix length
-            int r;
-            do {
-                r = super.read();
-                if (r == -1) {
-                    break;
-                }
-
-                buffer.append((char) r);
-            } while (buffer.length() < prefix.length() && endsWith(buffer, prefix.substring(0, buffer.length())));
+        return read(single, 0, 1) == -1 ? -1 : single[0];
+    }
 
-            // if the buffer does not contain the prefix
-            if (!endsWith(buffer, prefix)) {
-                // if it contain data, return the first character of it
-                if (buffer.length() > 0) {
-                    final char c = buffer.charAt(0);
-                    buffer.deleteCharAt(0);
-                    return c;
-                }
-                // else return -1
-                return -1;
-            }
-            // if the buffer contained the prefix, wipe the buffer
-            buffer.delete(0, buffer.length());
-
-            // begin reading ahead until we get to the suffix
-            final StringBuilder placeholderBuilder = new StringBuilder();
-            do {
-                final int r1 = super.read();
-                if (r1 == -1) {
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        if (pendingFailure != null) {
+            final RuntimeException failure = pendingFailure;
+            pendingFailure = null;
+            throw failure;
+        }
+        if (len == 0) {
+            return 0;
+        }
+        int count = 0;
+        try {
+            while (count < len) {
+                if (replacement != null) {
+                    count += copyReplacement(cbuf, off + count, len - count);
+                } else if (position == limit && !fill(1)) {
                     break;
+                } else if (literal == 0 && buffer[position] == prefixStart) {
+                    matchPrefix();
                 } else {
-                    placeholderBuilder.append((char) r1);
+                    count += copyLiteral(cbuf, off + count, len - count);
                 }
-            } while (!endsWith(placeholderBuilder, suffix));
-
-            // delete the suffix from the builder
-            for (int i = 0; i < suffix.length(); i++) {
-                placeholderBuilder.deleteCharAt(placeholderBuilder.length() - 1);
             }
+        } catch (final RuntimeException e) {
+            if (count == 0) {
+                throw e;
+            }
+            // Hand out what was replaced so far; the failure surfaces when the reader gets to it
+            pendingFailure = e;
+            return count;
+        }
+        return count == 0 ? -1 : count;
+    }
 
-            // look up the placeholder string
-            final String placeholder = placeholderBuilder.toString();
-            if (!placeholders.containsKey(placeholder)) {
-                final String canonicalPlaceholder = prefix + placeholder + suffix;
+    @Override
+    public long skip(final long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        final char[] skipped = new char[(int) Math.min(n, BLOCK_SIZE)];
+        long remaining = n;
+        while (remaining > 0) {
+            final int count = read(skipped, 0, (int) Math.min(remaining, skipped.length));
+            if (count == -1) {
+                break;
+            }
+            remaining -= count;
+        }
+        return n - remaining;
+    }
 
-                if (placeholder.startsWith("flyway" + separator)) {
-                    throw new FlywayException("Failed to populate value for default placeholder: "
-                        + canonicalPlaceholder);
-                }
+    @Override
+    public boolean ready() throws IOException {
+        return replacement != null || position < limit || (!eof && in.ready());
+    }
 
-                throw new FlywayException("No value provided for placeholder: "
-                    + canonicalPlaceholder
-                    + ".  Check your configuration!");
-            }
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
 
-            // set the current placeholder replacement
-            replacement = placeholders.get(placeholder);
+    @Override
+    public void mark(final int readAheadLimit) throws IOException {
+        throw new IOException("mark() not supported");
+    }
 
-            // Empty placeholder value -> move to the next character
-            if (replacement == null || replacement.length() == 0) {
-                replacement = null;
-                return read();
-            }
-        }
+    @Override
+    public void reset() throws IOException {
+        throw new IOException("reset() not supported");
+    }
 
-        final int result = replacement.charAt(replacementPos);
-        replacementPos++;
-        if (replacementPos >= replacement.length()) {
+    private int copyReplacement(final char[] cbuf, final int off, final int len) {
+        final int count = Math.min(len, replacement.length() - replacementPos);
+        replacement.getChars(replacementPos, replacementPos + count, cbuf, off);
+        replacementPos += count;
+        if (replacementPos == replacement.length()) {
             replacement = null;
             replacementPos = 0;
         }
-        return result;
+        return count;
     }
 
-    @Override
-    public int read(final char[] cbuf, final int off, final int len) throws IOException {
-        int count = 0;
-        for (int i = 0; i < len; i++) {
-            final int r = read();
-            if (r == -1) {
-                return count == 0 ? -1 : count;
+    /**
+     * Copies the characters up to the next possible start of a placeholder.
+     */
+    private int copyLiteral(final char[] cbuf, final int off, final int len) {
+        final int end;
+        if (literal > 0) {
+            end = position + Math.min(Math.min(literal, len), limit - position);
+            literal -= end - position;
+        } else {
+            final int max = Math.min(limit, position + len);
+            int i = position;
+            while (i < max && buffer[i] != prefixStart) {
+                i++;
             }
-            cbuf[off + i] = (char) r;
-            count++;
+            end = i;
         }
+        final int count = end - position;
+        System.arraycopy(buffer, position, cbuf, off, count);
+        position = end;
         return count;
     }
 
-    @Override
-    public void mark(final int readAheadLimit) throws IOException {
-        markBuffer = buffer.toString();
-        markReplacement = replacement;
-        markReplacementPos = replacementPos;
-        super.mark(readAheadLimit);
+    /**
+     * Checks whether the prefix starts at the current position, and if so reads the placeholder it starts.
+     */
+    private void matchPrefix() throws IOException {
+        fill(prefix.length());
+        final int available = limit - position;
+        int matched = 0;
+        while (matched < prefix.length()
+            && matched < available
+            && buffer[position + matched] == prefix.charAt(matched)) {
+            matched++;
+        }
+        if (matched < prefix.length()) {
+            // Everything read ahead to rule out the prefix, including the first character that differs, is text
+            literal = Math.min(matched + 1, available);
+            return;
+        }
+        position += matched;
+        readPlaceholder();
     }
 
-    @Override
-    public void reset() throws IOException {
-        super.reset();
-        buffer.delete(0, buffer.length());
-        buffer.append(markBuffer);
-        replacement = markReplacement;
-        replacementPos = markReplacementPos;
+    private void readPlaceholder() throws IOException {
+        int length = 0;
+        while (true) {
+            if (position == limit && !fill(1)) {
+                // No suffix before the end of the input
+                length = Math.max(0, length - suffix.length());
+                break;
+            }
+            if (length == name.length) {
+                name = Arrays.copyOf(name, length * 2);
+            }
+            name[length++] = buffer[position++];
+            if (endsWithSuffix(length)) {
+                length -= suffix.length();
+                break;
+            }
+        }
+
+        if (filename != null && isFilenamePlaceholder(length)) {
+            if (!filename.isEmpty()) {
+                replacement = filename;
+                replacementPos = 0;
+            }
+            return;
+        }
+
+        final PlaceholderTrie.Node placeholder = placeholders.find(name, length);
+        if (placeholder == null) {
+            final String placeholderName = new String(name, 0, length);
+            final String canonicalPlaceholder = prefix + placeholderName + suffix;
+
+            if (placeholderName.startsWith("flyway" + separator)) {
+                throw new FlywayException("Failed to populate value for default placeholder: "
+                    + canonicalPlaceholder);
+            }
+
+            throw new FlywayException("No value provided for placeholder: "
+                + canonicalPlaceholder
+                + ".  Check your configuration!");
+        }
+
+        // Empty placeholder value -> nothing to hand out
+        final String value = placeholder.getValue();
+        if (value != null && !value.isEmpty()) {
+            replacement = value;
+            replacementPos = 0;
+        }
     }
 
-    private boolean endsWith(final StringBuilder result, final String str) {
-        if (result.length() < str.length()) {
+    /**
+     * @return Whether the name of the placeholder being read is that of the filename placeholder, ignoring case.
+     */
+    private boolean isFilenamePlaceholder(final int length) {
+        if (filenamePlaceholder.length() != length) {
             return false;
         }
+        for (int i = 0; i < length; i++) {
+            if (Character.toLowerCase(name[i]) != Character.toLowerCase(filenamePlaceholder.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-        for (int i = 0; i < str.length(); i++) {
-            if (result.charAt(result.length() - str.length() + i) != str.charAt(i)) {
+    private boolean endsWithSuffix(final int length) {
+        if (length < suffix.length()) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (name[length - suffix.length() + i] != suffix.charAt(i)) {
                 return false;
             }
         }
         return true;
     }
+
+    /**
+     * Reads ahead until at least this many characters are buffered or the end of the input is reached.
+     *
+     * @return Whether that many characters are now available.
+     */
+    private boolean fill(final int required) throws IOException {
+        if (limit - position >= required) {
+            return true;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        while (!eof && limit < required) {
+            final int count = in.read(buffer, limit, buffer.length - limit);
+            if (count == -1) {
+                eof = true;
+            } else {
+                limit += count;
+            }
+        }
+        return limit >= required;
+    }
 }
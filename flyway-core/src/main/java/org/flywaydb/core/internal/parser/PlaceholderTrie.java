@@ -0,0 +1,99 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.parser;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The placeholders of a run compiled into an immutable trie over their case-folded names, so that the name read from
+ * a script can be looked up straight from the read buffer, without building or lower-casing a {@link String}.
+ */
+final class PlaceholderTrie {
+    static final PlaceholderTrie EMPTY = new PlaceholderTrie(Map.of());
+
+    private final Node root = new Node();
+
+    PlaceholderTrie(final Map<String, String> placeholders) {
+        for (final Map.Entry<String, String> placeholder : placeholders.entrySet()) {
+            final String name = placeholder.getKey();
+            Node node = root;
+            for (int i = 0; i < name.length(); i++) {
+                node = node.childFor(Character.toLowerCase(name.charAt(i)));
+            }
+            node.placeholder = true;
+            node.value = placeholder.getValue();
+        }
+    }
+
+    /**
+     * @return The node of the placeholder with this name, ignoring case, or {@code null} if there is none.
+     */
+    Node find(final char[] name, final int length) {
+        Node node = root;
+        for (int i = 0; i < length && node != null; i++) {
+            node = node.child(Character.toLowerCase(name[i]));
+        }
+        return node != null && node.placeholder ? node : null;
+    }
+
+    static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private boolean placeholder;
+        private String value;
+
+        /**
+         * @return The value of the placeholder ending at this node, which may be {@code null}.
+         */
+        String getValue() {
+            return value;
+        }
+
+        private Node child(final char label) {
+            final int index = Arrays.binarySearch(labels, label);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node childFor(final char label) {
+            int index = Arrays.binarySearch(labels, label);
+            if (index < 0) {
+                index = -index - 1;
+                labels = insert(labels, index, label);
+                children = insert(children, index, new Node());
+            }
+            return children[index];
+        }
+
+        private static char[] insert(final char[] array, final int index, final char element) {
+            final char[] result = Arrays.copyOf(array, array.length + 1);
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            result[index] = element;
+            return result;
+        }
+
+        private static Node[] insert(final Node[] array, final int index, final Node element) {
+            final Node[] result = Arrays.copyOf(array, array.length + 1);
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            result[index] = element;
+            return result;
+        }
+    }
+}
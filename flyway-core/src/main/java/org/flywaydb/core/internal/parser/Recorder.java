@@ -63,6 +63,25 @@ public class Recorder {
         recorderConfirmedPos = recorder.length();
     }
 
+    /**
+     * Stops recording and returns the confirmed text with leading and trailing whitespace removed, copying it only once.
+     */
+    public String stopTrimmed() {
+        recorder.delete(recorderConfirmedPos, recorder.length());
+
+        int start = 0;
+        int end = recorder.length();
+        while (start < end && recorder.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && recorder.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        final String result = recorder.substring(start, end);
+        recorder = null;
+        return result;
+    }
+
     public String stop() {
         // Drop unconfirmed parts of recording
         recorder.delete(recorderConfirmedPos, recorder.length());
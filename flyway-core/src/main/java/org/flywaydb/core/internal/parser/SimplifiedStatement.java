@@ -0,0 +1,103 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.parser;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The upper-cased top-level keywords of the statement currently being parsed, separated by single spaces, which
+ * statement type and transactionality detection work from. Keywords are folded straight into a reusable buffer and the
+ * text is only turned into a {@link String} when a detector asks for it.
+ */
+final class SimplifiedStatement {
+    private char[] buffer = new char[64];
+    private int length;
+    private String text = "";
+
+    void clear() {
+        length = 0;
+        text = "";
+    }
+
+    void append(final String keyword) {
+        ensureCapacity(length + 1 + keyword.length());
+        if (length > 0) {
+            buffer[length++] = ' ';
+        }
+        final int start = length;
+        for (int i = 0; i < keyword.length(); i++) {
+            final char c = keyword.charAt(i);
+            if (c > 127) {
+                // Leave the rarer case-folding rules of non-ASCII text, which may change its length, to String
+                length = start;
+                appendUpperCased(keyword.toUpperCase(Locale.ENGLISH));
+                text = null;
+                return;
+            }
+            buffer[length++] = c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+        }
+        text = null;
+    }
+
+    /**
+     * @return Whether the text so far is exactly one of these.
+     */
+    boolean equalsAnyOf(final String[] candidates) {
+        for (final String candidate : candidates) {
+            if (matches(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean matches(final String candidate) {
+        if (candidate.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer[i] != candidate.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void appendUpperCased(final String upperCased) {
+        ensureCapacity(length + upperCased.length());
+        upperCased.getChars(0, upperCased.length(), buffer, length);
+        length += upperCased.length();
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, capacity));
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (text == null) {
+            text = new String(buffer, 0, length);
+        }
+        return text;
+    }
+}
@@ -0,0 +1,85 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.parser;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * The tokens of the statement currently being parsed, as seen by the dialect parsers. Statements of ordinary size are
+ * kept in full. Beyond that only the leading tokens (which statement type detection works from) and a sliding window
+ * of the most recent ones (which the look-behind helpers such as {@link Parser#getPreviousToken} work from) are
+ * retained, so a statement with millions of tokens does not hold millions of {@link Token} objects.
+ */
+final class TokenWindow extends AbstractList<Token> implements RandomAccess {
+    private static final int HEAD_SIZE = 256;
+    private static final int TAIL_SIZE = 4096;
+
+    private final List<Token> head = new ArrayList<>();
+    private Token[] tail;
+    private int tailStart = 0;
+    private int tailSize = 0;
+
+    @Override
+    public Token get(final int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        if (index < head.size()) {
+            return head.get(index);
+        }
+        return tail[(tailStart + index - head.size()) % TAIL_SIZE];
+    }
+
+    @Override
+    public int size() {
+        return head.size() + tailSize;
+    }
+
+    @Override
+    public boolean add(final Token token) {
+        if (head.size() < HEAD_SIZE) {
+            head.add(token);
+        } else if (tailSize < TAIL_SIZE) {
+            if (tail == null) {
+                tail = new Token[TAIL_SIZE];
+            }
+            tail[(tailStart + tailSize++) % TAIL_SIZE] = token;
+        } else {
+            tail[tailStart] = token;
+            tailStart = (tailStart + 1) % TAIL_SIZE;
+        }
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        head.clear();
+        for (int i = 0; i < tailSize; i++) {
+            tail[(tailStart + i) % TAIL_SIZE] = null;
+        }
+        tailStart = 0;
+        tailSize = 0;
+        modCount++;
+    }
+}
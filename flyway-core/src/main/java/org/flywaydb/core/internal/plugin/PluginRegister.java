@@ -23,8 +23,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import lombok.CustomLog;
 import org.flywaydb.core.api.configuration.Configuration;
@@ -38,6 +40,10 @@ public class PluginRegister {
     private final List<ServiceLoader.Provider<Plugin>> REGISTERED_PROVIDERS = new ArrayList<>();
     private final Map<ServiceLoader.Provider<Plugin>, Plugin> INSTANTIATED_PLUGINS = new ConcurrentHashMap<>();
     private final ClassLoader CLASS_LOADER = this.getClass().getClassLoader();
+    private final Map<Class<?>, List<Plugin>> INSTANCES_BY_CLASS = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Optional<Plugin>> EXACT_BY_CLASS = new ConcurrentHashMap<>();
+    private final Map<String, List<Plugin>> INSTANCES_BY_NAME = new ConcurrentHashMap<>();
+    private final LongAdder LOOKUPS = new LongAdder();
     private boolean hasRegisteredPlugins;
 
     public PluginRegister() {}
@@ -103,59 +109,65 @@ public class PluginRegister {
     }
 
     public <T extends Plugin> T getExact(final Class<T> clazz) {
-        return (T) getMatchingProviders(clazz).stream()
+        LOOKUPS.increment();
+        final Optional<Plugin> indexed = EXACT_BY_CLASS.get(clazz);
+        if (indexed != null) {
+            return (T) indexed.orElse(null);
+        }
+
+        final Optional<Plugin> exact = getMatchingProviders(clazz).stream()
             .map(this::instantiate)
             .filter(p -> p != null && p.getClass().getCanonicalName().equals(clazz.getCanonicalName()))
-            .findFirst()
-            .orElse(null);
+            .findFirst();
+        final Optional<Plugin> existing = EXACT_BY_CLASS.putIfAbsent(clazz, exact);
+        return (T) (existing == null ? exact : existing).orElse(null);
     }
 
     public <T extends Plugin> List<T> getInstancesOf(final Class<T> clazz) {
-        return (List<T>) getMatchingProviders(clazz).stream()
-            .map(this::instantiate)
-            .filter(p -> p != null && clazz.isInstance(p))
-            .sorted()
-            .collect(Collectors.toList());
+        return new ArrayList<>((List<T>) getIndexedInstancesOf(clazz));
     }
 
     public <T extends Plugin> List<T> getLicensedInstancesOf(final Class<T> clazz, final Configuration configuration) {
-        return (List<T>) getMatchingProviders(clazz).stream()
-            .map(this::instantiate)
-            .filter(p -> p != null && clazz.isInstance(p))
+        return (List<T>) getIndexedInstancesOf(clazz).stream()
             .filter(p -> p.isLicensed(configuration))
-            .sorted()
             .collect(Collectors.toList());
     }
 
     public <T extends Plugin> T getLicensedInstanceOf(final Class<T> clazz, final Configuration configuration) {
-        return getLicensedInstancesOf(clazz, configuration).stream().findFirst().orElse(null);
+        return (T) getIndexedInstancesOf(clazz).stream()
+            .filter(p -> p.isLicensed(configuration))
+            .findFirst()
+            .orElse(null);
     }
 
     public <T extends Plugin> T getLicensedExact(final String className, final Configuration configuration) {
-        return (T) getProviders().stream()
-            .filter(p -> p.type().getSimpleName().equals(className))
-            .map(this::instantiate)
-            .filter(p -> p != null && p.isLicensed(configuration))
+        return (T) getIndexedInstancesNamed(className).stream()
+            .filter(p -> p.isLicensed(configuration))
             .findFirst()
             .orElse(null);
     }
 
     public <T extends Plugin> T getExact(final String className) {
-        return (T) getProviders().stream()
-            .filter(p -> p.type().getSimpleName().equals(className))
-            .map(this::instantiate)
-            .filter(p -> p != null)
-            .findFirst()
-            .orElse(null);
+        return (T) getIndexedInstancesNamed(className).stream().findFirst().orElse(null);
     }
 
     public <T extends Plugin> T getInstanceOf(final Class<T> clazz) {
-        return (T) getMatchingProviders(clazz).stream()
-            .map(this::instantiate)
-            .filter(p -> p != null && clazz.isInstance(p))
-            .sorted()
-            .findFirst()
-            .orElse(null);
+        final List<Plugin> instances = getIndexedInstancesOf(clazz);
+        return instances.isEmpty() ? null : (T) instances.get(0);
+    }
+
+    /**
+     * @return The number of plugin lookups made through this register so far.
+     */
+    public long getLookupCount() {
+        return LOOKUPS.sum();
+    }
+
+    /**
+     * @return The number of plugin types and names for which the instances have been indexed so far.
+     */
+    public int getIndexedLookupCount() {
+        return INSTANCES_BY_CLASS.size() + EXACT_BY_CLASS.size() + INSTANCES_BY_NAME.size();
     }
 
     List<ServiceLoader.Provider<Plugin>> getRegisteredProviders() {
@@ -181,6 +193,47 @@ public class PluginRegister {
         return getProviders().stream().filter(p -> clazz.isAssignableFrom(p.type())).collect(Collectors.toList());
     }
 
+    /**
+     * The enabled instances of this type, sorted by priority. The result is computed once and then shared between
+     * lookups, so must not be modified.
+     */
+    private List<Plugin> getIndexedInstancesOf(final Class<?> clazz) {
+        LOOKUPS.increment();
+        final List<Plugin> indexed = INSTANCES_BY_CLASS.get(clazz);
+        if (indexed != null) {
+            return indexed;
+        }
+
+        // Not using computeIfAbsent, as instantiating plugins may itself look up other plugins
+        final List<Plugin> instances = getProviders().stream()
+            .filter(p -> clazz.isAssignableFrom(p.type()))
+            .map(this::instantiate)
+            .filter(p -> p != null && clazz.isInstance(p))
+            .sorted()
+            .toList();
+        final List<Plugin> existing = INSTANCES_BY_CLASS.putIfAbsent(clazz, instances);
+        return existing == null ? instances : existing;
+    }
+
+    /**
+     * The enabled instances whose class has this simple name, in registration order.
+     */
+    private List<Plugin> getIndexedInstancesNamed(final String className) {
+        LOOKUPS.increment();
+        final List<Plugin> indexed = INSTANCES_BY_NAME.get(className);
+        if (indexed != null) {
+            return indexed;
+        }
+
+        final List<Plugin> instances = getProviders().stream()
+            .filter(p -> p.type().getSimpleName().equals(className))
+            .map(this::instantiate)
+            .filter(p -> p != null)
+            .toList();
+        final List<Plugin> existing = INSTANCES_BY_NAME.putIfAbsent(className, instances);
+        return existing == null ? instances : existing;
+    }
+
     void registerPlugins() {
         synchronized (REGISTERED_PROVIDERS) {
             if (hasRegisteredPlugins) {
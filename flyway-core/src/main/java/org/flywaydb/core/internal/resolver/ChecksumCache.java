@@ -0,0 +1,259 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.resolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.AllArgsConstructor;
+import lombok.CustomLog;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.resource.LoadableResource;
+import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.resource.filesystem.FileSystemResource;
+import org.flywaydb.core.internal.util.FileUtils;
+import org.flywaydb.core.internal.util.JsonUtils;
+
+/**
+ * Persistent cache of checksums for migrations on the filesystem, so that unchanged files don't need to be read again
+ * on every run. Entries are keyed by the absolute path of the file and are only valid as long as its size, last
+ * modification time and encoding are unchanged, which can be checked with a single stat of the file.
+ *
+ * <p>A cache which can't be read is ignored and rebuilt, and failing to write it never fails the operation.</p>
+ */
+@CustomLog
+public class ChecksumCache {
+    /**
+     * The fingerprint of checksums calculated over the raw contents of a file.
+     */
+    public static final String RAW_FINGERPRINT = "raw";
+
+    private static final int FORMAT_VERSION = 1;
+    /**
+     * Files modified this recently may be modified again without their modification time changing, given the
+     * timestamp granularity of some filesystems, so their checksums aren't cached yet.
+     */
+    private static final long RACY_MODIFICATION_WINDOW_MILLIS = 2000;
+    /**
+     * The maximum number of fingerprints to keep per file, as changing placeholder values produce new fingerprints.
+     */
+    private static final int MAX_FINGERPRINTS_PER_FILE = 4;
+
+    private final File cacheFile;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<String> usedPaths = ConcurrentHashMap.newKeySet();
+    private volatile boolean modified;
+
+    private ChecksumCache(final File cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * @return A cache which doesn't cache anything.
+     */
+    public static ChecksumCache disabled() {
+        return new ChecksumCache(null);
+    }
+
+    /**
+     * Loads the cache from this file, starting with an empty cache if it doesn't exist or can't be read.
+     */
+    public static ChecksumCache load(final File cacheFile) {
+        final ChecksumCache checksumCache = new ChecksumCache(cacheFile);
+        if (!cacheFile.isFile()) {
+            return checksumCache;
+        }
+
+        try {
+            final CacheModel model = JsonUtils.parseJson(FileUtils.readAsExactString(cacheFile.toPath()),
+                CacheModel.class);
+            if (model.getVersion() == FORMAT_VERSION && model.getEntries() != null) {
+                checksumCache.entries.putAll(model.getEntries());
+            } else {
+                LOG.debug("Ignoring checksum cache " + cacheFile.getAbsolutePath() + " with unsupported format");
+            }
+        } catch (final FlywayException e) {
+            LOG.debug("Ignoring unreadable checksum cache " + cacheFile.getAbsolutePath() + ": " + e.getMessage());
+        }
+        LOG.debug("Loaded " + checksumCache.entries.size() + " entries from checksum cache " + cacheFile.getAbsolutePath());
+        return checksumCache;
+    }
+
+    /**
+     * Computes the fingerprint of the placeholders which would be replaced in a resource with this context.
+     */
+    public static String getPlaceholderFingerprint(final Configuration configuration,
+        final ParsingContext parsingContext) {
+        final Map<String, String> placeholders = new TreeMap<>(configuration.getPlaceholders());
+        synchronized (parsingContext) {
+            placeholders.putAll(parsingContext.getPlaceholders());
+        }
+
+        final StringBuilder fingerprint = new StringBuilder();
+        fingerprint.append(configuration.getPlaceholderPrefix())
+            .append('\0')
+            .append(configuration.getPlaceholderSuffix())
+            .append('\0')
+            .append(configuration.getPlaceholderSeparator());
+        for (final Map.Entry<String, String> placeholder : placeholders.entrySet()) {
+            fingerprint.append('\0').append(placeholder.getKey()).append('\0').append(placeholder.getValue());
+        }
+
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(fingerprint.toString().getBytes(StandardCharsets.UTF_8));
+            return "placeholders:" + HexFormat.of().formatHex(digest);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new FlywayException("Unable to compute placeholder fingerprint", e);
+        }
+    }
+
+    /**
+     * Returns the cached checksum of this resource for this fingerprint, calculating and caching it if it isn't cached
+     * or the file has changed since. Only single files on the filesystem are cached.
+     */
+    public Integer getChecksum(final LoadableResource resource,
+        final String fingerprint,
+        final Supplier<Integer> calculator) {
+        if (cacheFile == null || !(resource instanceof final FileSystemResource fileSystemResource)) {
+            return calculator.get();
+        }
+
+        final String path = resource.getAbsolutePathOnDisk();
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(Path.of(path), BasicFileAttributes.class);
+        } catch (final IOException | RuntimeException e) {
+            return calculator.get();
+        }
+        final long size = attributes.size();
+        final long lastModified = attributes.lastModifiedTime().toMillis();
+        final String encoding = getEncoding(fileSystemResource);
+
+        usedPaths.add(path);
+        final Entry entry = entries.get(path);
+        final boolean entryValid = entry != null
+            && entry.getSize() == size
+            && entry.getLastModified() == lastModified
+            && encoding.equals(entry.getEncoding())
+            && entry.getChecksums() != null;
+        if (entryValid) {
+            final Integer checksum = entry.getChecksums().get(fingerprint);
+            if (checksum != null) {
+                return checksum;
+            }
+        }
+
+        final Integer checksum = calculator.get();
+        if (checksum == null || System.currentTimeMillis() - lastModified < RACY_MODIFICATION_WINDOW_MILLIS) {
+            return checksum;
+        }
+
+        final Map<String, Integer> checksums = new HashMap<>();
+        if (entryValid && entry.getChecksums().size() < MAX_FINGERPRINTS_PER_FILE) {
+            checksums.putAll(entry.getChecksums());
+        }
+        checksums.put(fingerprint, checksum);
+        entries.put(path, new Entry(size, lastModified, encoding, checksums));
+        modified = true;
+        return checksum;
+    }
+
+    /**
+     * Writes the cache back to disk if anything changed, dropping entries of files which no longer exist.
+     */
+    public void save() {
+        if (cacheFile == null || !modified) {
+            return;
+        }
+
+        entries.keySet().removeIf(path -> !usedPaths.contains(path) && !new File(path).exists());
+
+        final CacheModel model = new CacheModel(FORMAT_VERSION, new TreeMap<>(entries));
+        Path tempFile = null;
+        try {
+            FileUtils.createDirIfNotExists(cacheFile);
+            tempFile = Files.createTempFile(cacheFile.getAbsoluteFile().getParentFile().toPath(),
+                cacheFile.getName(),
+                ".tmp");
+            Files.writeString(tempFile, JsonUtils.toJson(model), StandardCharsets.UTF_8);
+            try {
+                Files.move(tempFile,
+                    cacheFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            modified = false;
+            LOG.debug("Saved " + entries.size() + " entries to checksum cache " + cacheFile.getAbsolutePath());
+        } catch (final IOException | FlywayException e) {
+            LOG.warn("Unable to save checksum cache " + cacheFile.getAbsolutePath() + ": " + e.getMessage());
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (final IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private static String getEncoding(final FileSystemResource resource) {
+        return resource.getEncoding().name() + (resource.isDetectEncoding() ? ";detect" : "");
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class CacheModel {
+        private int version;
+        private Map<String, Entry> entries;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    static class Entry {
+        private long size;
+        private long lastModified;
+        private String encoding;
+        private Map<String, Integer> checksums;
+    }
+}
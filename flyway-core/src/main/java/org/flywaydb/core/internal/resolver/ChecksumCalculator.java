@@ -26,13 +26,14 @@ import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.internal.util.BomFilter;
 import org.flywaydb.core.internal.util.IOUtils;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.Reader;
 import java.util.zip.CRC32;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class ChecksumCalculator {
+    private static final int CHAR_BUFFER_SIZE = 8192;
+
     /**
      * Calculates the checksum of these resources. The checksum is encoding and line-ending independent.
      *
@@ -59,18 +60,10 @@ public class ChecksumCalculator {
     private static int calculateChecksumForResource(final LoadableResource resource) {
         final CRC32 crc32 = new CRC32();
 
-        BufferedReader bufferedReader = null;
+        Reader reader = null;
         try {
-            bufferedReader = new BufferedReader(resource.read(), 4096);
-            String line = bufferedReader.readLine();
-
-            if (line != null) {
-                line = BomFilter.FilterBomFromString(line);
-                do {
-                    //noinspection Since15
-                    crc32.update(line.getBytes(StandardCharsets.UTF_8));
-                } while ((line = bufferedReader.readLine()) != null);
-            }
+            reader = resource.read();
+            update(crc32, reader);
         } catch (IOException e) {
             throw new FlywayException("Unable to calculate checksum of "
                 + resource.getFilename()
@@ -78,12 +71,82 @@ public class ChecksumCalculator {
                 + "Please ensure you have configured the correct file encoding with 'flyway.encoding' "
                 + "or enable 'flyway.detectEncoding' to let Flyway detect it for you", e);
         } finally {
-            IOUtils.close(bufferedReader);
+            IOUtils.close(reader);
         }
 
         return (int) crc32.getValue();
     }
 
+    /**
+     * Feeds the UTF-8 encoding of the contents of this reader into this checksum, leaving out all line terminators and
+     * a leading Byte Order Mark. The contents are decoded and encoded block by block through a pair of buffers reused
+     * for the whole reader, instead of materializing each line as a String and each String as a byte array.
+     * <p>
+     * The result is identical to checksumming {@code line.getBytes(UTF_8)} for each line returned by
+     * {@link java.io.BufferedReader#readLine()}: line terminators are treated as boundaries for surrogate pairs and
+     * unpaired surrogates are replaced with {@code '?'}, exactly like {@link String#getBytes(java.nio.charset.Charset)}
+     * does for each line.
+     */
+    private static void update(final CRC32 crc32, final Reader reader) throws IOException {
+        final char[] chars = new char[CHAR_BUFFER_SIZE];
+        // Each char encodes to at most 3 bytes and a pending high surrogate adds at most 1 byte to that
+        final byte[] bytes = new byte[CHAR_BUFFER_SIZE * 3 + 1];
+
+        boolean start = true;
+        char highSurrogate = 0;
+        int read;
+        while ((read = reader.read(chars, 0, chars.length)) != -1) {
+            int length = 0;
+            for (int i = 0; i < read; i++) {
+                final char c = chars[i];
+                if (start) {
+                    start = false;
+                    if (BomFilter.isBom(c)) {
+                        continue;
+                    }
+                }
+
+                if (highSurrogate != 0) {
+                    if (Character.isLowSurrogate(c)) {
+                        final int codePoint = Character.toCodePoint(highSurrogate, c);
+                        bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                        bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                        bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                        bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                        highSurrogate = 0;
+                        continue;
+                    }
+                    bytes[length++] = '?';
+                    highSurrogate = 0;
+                }
+
+                if (c == '\n' || c == '\r') {
+                    continue;
+                }
+
+                if (c < 0x80) {
+                    bytes[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[length++] = (byte) (0xC0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c)) {
+                    highSurrogate = c;
+                } else if (Character.isLowSurrogate(c)) {
+                    bytes[length++] = '?';
+                } else {
+                    bytes[length++] = (byte) (0xE0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            crc32.update(bytes, 0, length);
+        }
+
+        if (highSurrogate != 0) {
+            crc32.update('?');
+        }
+    }
+
     private static byte[] intToByteArray(final int i) {
         return new byte[] { (byte) ((i >> 24) & 0xFF),
                             (byte) ((i >> 16) & 0xFF),
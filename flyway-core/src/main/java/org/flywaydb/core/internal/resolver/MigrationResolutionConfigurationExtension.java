@@ -0,0 +1,125 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.resolver;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.io.File;
+import lombok.Getter;
+import lombok.Setter;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+import org.flywaydb.core.internal.util.FileUtils;
+import org.flywaydb.core.internal.util.ParallelUtils;
+
+/**
+ * Configuration for how migrations are resolved. Values are nullable so that merging configurations only overrides
+ * what was explicitly set.
+ */
+@Getter
+@Setter
+public class MigrationResolutionConfigurationExtension implements ConfigurationExtension {
+    private static final String PARALLEL_RESOLUTION = "flyway.parallelResolution";
+    private static final String PARALLEL_RESOLUTION_THREADS = "flyway.parallelResolutionThreads";
+    private static final String CHECKSUM_CACHE = "flyway.checksumCache";
+    private static final String CHECKSUM_CACHE_LOCATION = "flyway.checksumCacheLocation";
+    private static final String PRE_PARSE = "flyway.preParse";
+    private static final String DEFAULT_CHECKSUM_CACHE_FILENAME = "checksum-cache.json";
+
+    /**
+     * Whether to compute checksums and script metadata of SQL migrations on multiple threads.
+     */
+    private Boolean parallelResolution;
+    /**
+     * The maximum number of threads to use when parallel resolution is enabled. Defaults to the number of available
+     * processors.
+     */
+    private Integer parallelResolutionThreads;
+    /**
+     * Whether to persist checksums of filesystem migrations between runs, so unchanged files aren't read again.
+     */
+    private Boolean checksumCache;
+    /**
+     * The file in which to persist checksums. Defaults to a file in the Flyway CLI application data directory.
+     */
+    private String checksumCacheLocation;
+    /**
+     * Whether to parse all SQL migrations on multiple threads straight after resolving them, rather than one at a time
+     * when each is first needed.
+     */
+    private Boolean preParse;
+
+    @JsonIgnore
+    public int getResolutionThreadCount() {
+        if (parallelResolution == null || !parallelResolution) {
+            return 1;
+        }
+        return parallelResolutionThreads == null ? ParallelUtils.getDefaultThreadCount() : parallelResolutionThreads;
+    }
+
+    @JsonIgnore
+    public boolean isPreParseEnabled() {
+        return preParse != null && preParse;
+    }
+
+    /**
+     * @return The number of threads to pre-parse on. Unlike resolution, pre-parsing is always parallel once enabled.
+     */
+    @JsonIgnore
+    public int getPreParseThreadCount() {
+        return parallelResolutionThreads == null ? ParallelUtils.getDefaultThreadCount() : parallelResolutionThreads;
+    }
+
+    @JsonIgnore
+    public boolean isChecksumCacheEnabled() {
+        return checksumCache != null && checksumCache;
+    }
+
+    @JsonIgnore
+    public File getChecksumCacheFile() {
+        if (checksumCacheLocation != null && !checksumCacheLocation.isEmpty()) {
+            return new File(checksumCacheLocation);
+        }
+        return new File(FileUtils.getAppDataFlywayCLILocation(), DEFAULT_CHECKSUM_CACHE_FILENAME);
+    }
+
+    @Override
+    public String getNamespace() {
+        return "";
+    }
+
+    @Override
+    public String getConfigurationParameterFromEnvironmentVariable(final String environmentVariable) {
+        if ("FLYWAY_PARALLEL_RESOLUTION".equals(environmentVariable)) {
+            return PARALLEL_RESOLUTION;
+        }
+        if ("FLYWAY_PARALLEL_RESOLUTION_THREADS".equals(environmentVariable)) {
+            return PARALLEL_RESOLUTION_THREADS;
+        }
+        if ("FLYWAY_CHECKSUM_CACHE".equals(environmentVariable)) {
+            return CHECKSUM_CACHE;
+        }
+        if ("FLYWAY_CHECKSUM_CACHE_LOCATION".equals(environmentVariable)) {
+            return CHECKSUM_CACHE_LOCATION;
+        }
+        if ("FLYWAY_PRE_PARSE".equals(environmentVariable)) {
+            return PRE_PARSE;
+        }
+        return null;
+    }
+}
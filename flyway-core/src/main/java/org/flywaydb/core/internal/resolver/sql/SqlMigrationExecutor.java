@@ -20,6 +20,8 @@
 package org.flywaydb.core.internal.resolver.sql;
 
 import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.flywaydb.core.api.executor.Context;
 import org.flywaydb.core.api.executor.MigrationExecutor;
@@ -42,6 +44,7 @@ public class SqlMigrationExecutor implements MigrationExecutor {
     /**
      * The SQL script that will be executed.
      */
+    @Getter(AccessLevel.PACKAGE)
     private final SqlScript sqlScript;
 
     /**
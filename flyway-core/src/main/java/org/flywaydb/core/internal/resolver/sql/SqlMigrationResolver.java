@@ -29,19 +29,24 @@ import org.flywaydb.core.api.resolver.ResolvedMigration;
 import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.api.resource.Resource;
 import org.flywaydb.core.internal.parser.ParsingContext;
+import org.flywaydb.core.internal.resolver.ChecksumCache;
 import org.flywaydb.core.internal.resolver.ChecksumCalculator;
+import org.flywaydb.core.internal.resolver.MigrationResolutionConfigurationExtension;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationComparator;
 import org.flywaydb.core.internal.resolver.ResolvedMigrationImpl;
 import org.flywaydb.core.internal.resource.ResourceName;
 import org.flywaydb.core.internal.resource.ResourceNameParser;
+import org.flywaydb.core.internal.sqlscript.ParserSqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScript;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
+import org.flywaydb.core.internal.util.ParallelUtils;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -72,92 +77,174 @@ public class SqlMigrationResolver implements MigrationResolver {
     public List<ResolvedMigration> resolveMigrations(final Context context) {
         final List<ResolvedMigration> migrations = new ArrayList<>();
         final String[] suffixes = configuration.getSqlMigrationSuffixes();
+        final MigrationResolutionConfigurationExtension extension = configuration.getPluginRegister()
+            .getExact(MigrationResolutionConfigurationExtension.class);
+        final ChecksumCache checksumCache = extension.isChecksumCacheEnabled()
+            ? ChecksumCache.load(extension.getChecksumCacheFile())
+            : ChecksumCache.disabled();
 
-        addMigrations(migrations, configuration.getSqlMigrationPrefix(), suffixes, false);
-        addMigrations(migrations, configuration.getRepeatableSqlMigrationPrefix(), suffixes, true);
+        addMigrations(migrations, configuration.getSqlMigrationPrefix(), suffixes, false, checksumCache);
+        addMigrations(migrations, configuration.getRepeatableSqlMigrationPrefix(), suffixes, true, checksumCache);
+        checksumCache.save();
 
         migrations.sort(new ResolvedMigrationComparator());
+        if (extension.isPreParseEnabled()) {
+            preParse(migrations, extension.getPreParseThreadCount());
+        }
         return migrations;
     }
 
-    private LoadableResource[] createPlaceholderReplacingLoadableResources(final List<LoadableResource> loadableResources) {
+    /**
+     * Parses the scripts of these migrations concurrently. Each script keeps its own outcome, so mixed transaction
+     * violations and other parse errors surface exactly where and in the order they would have without pre-parsing.
+     */
+    private void preParse(final List<ResolvedMigration> migrations, final int threadCount) {
+        final List<ParserSqlScript> sqlScripts = new ArrayList<>();
+        for (final ResolvedMigration migration : migrations) {
+            if (migration.getExecutor() instanceof SqlMigrationExecutor executor
+                && executor.getSqlScript() instanceof ParserSqlScript sqlScript) {
+                sqlScripts.add(sqlScript);
+            }
+        }
+
+        LOG.debug("Pre-parsing " + sqlScripts.size() + " SQL migrations on up to " + threadCount + " threads ...");
+        ParallelUtils.map(sqlScripts, threadCount, "flyway-sql-parser", sqlScript -> {
+            sqlScript.preParse();
+            return null;
+        });
+    }
+
+    private LoadableResource[] createPlaceholderReplacingLoadableResources(final List<LoadableResource> loadableResources,
+        final ParsingContext resourceParsingContext) {
         return loadableResources.stream()
             .map(loadableResource -> LoadableResource.createPlaceholderReplacingLoadableResource(loadableResource,
                 configuration,
-                parsingContext))
+                resourceParsingContext))
             .toArray(LoadableResource[]::new);
     }
 
     private Integer getChecksumForLoadableResource(final boolean repeatable,
         final List<LoadableResource> loadableResources,
         final ResourceName resourceName,
-        final boolean placeholderReplacement) {
+        final boolean placeholderReplacement,
+        final ChecksumCache checksumCache) {
         if (repeatable && placeholderReplacement) {
-            parsingContext.updateFilenamePlaceholder(resourceName, configuration);
-            return ChecksumCalculator.calculate(createPlaceholderReplacingLoadableResources(loadableResources));
+            // Use a private copy of the context as migrations may be resolved concurrently
+            final ParsingContext resourceParsingContext = parsingContext.copy();
+            resourceParsingContext.updateFilenamePlaceholder(resourceName, configuration);
+            return getChecksum(loadableResources,
+                ChecksumCache.getPlaceholderFingerprint(configuration, resourceParsingContext),
+                () -> ChecksumCalculator.calculate(createPlaceholderReplacingLoadableResources(loadableResources,
+                    resourceParsingContext)),
+                checksumCache);
         }
 
-        return ChecksumCalculator.calculate(loadableResources.toArray(LoadableResource[]::new));
+        return getRawChecksum(loadableResources, checksumCache);
     }
 
     private Integer getEquivalentChecksumForLoadableResource(final boolean repeatable,
-        final List<LoadableResource> loadableResources) {
+        final List<LoadableResource> loadableResources,
+        final ChecksumCache checksumCache) {
         if (repeatable) {
-            return ChecksumCalculator.calculate(loadableResources.toArray(LoadableResource[]::new));
+            return getRawChecksum(loadableResources, checksumCache);
         }
 
         return null;
     }
 
+    private Integer getRawChecksum(final List<LoadableResource> loadableResources, final ChecksumCache checksumCache) {
+        return getChecksum(loadableResources,
+            ChecksumCache.RAW_FINGERPRINT,
+            () -> ChecksumCalculator.calculate(loadableResources.toArray(LoadableResource[]::new)),
+            checksumCache);
+    }
+
+    private static Integer getChecksum(final List<LoadableResource> loadableResources,
+        final String fingerprint,
+        final Supplier<Integer> calculator,
+        final ChecksumCache checksumCache) {
+        // Checksums including referenced scripts depend on more than one file, so they aren't cached
+        if (loadableResources.size() != 1) {
+            return calculator.get();
+        }
+        return checksumCache.getChecksum(loadableResources.get(0), fingerprint, calculator);
+    }
+
     private void addMigrations(final List<ResolvedMigration> migrations,
         final String prefix,
         final String[] suffixes,
-        final boolean repeatable) {
+        final boolean repeatable,
+        final ChecksumCache checksumCache) {
         final ResourceNameParser resourceNameParser = new ResourceNameParser(configuration);
+        final int threadCount = configuration.getPluginRegister()
+            .getExact(MigrationResolutionConfigurationExtension.class)
+            .getResolutionThreadCount();
 
-        for (final LoadableResource resource : resourceProvider.getResources(prefix, suffixes)) {
-            final String filename = resource.getFilename();
-            final ResourceName resourceName = resourceNameParser.parse(filename);
-            if (!resourceName.isValid() || isSqlCallback(resourceName) || !prefix.equals(resourceName.getPrefix())) {
-                continue;
-            }
+        final List<LoadableResource> resources = new ArrayList<>(resourceProvider.getResources(prefix, suffixes));
+        final List<ResolvedMigration> resolvedMigrations = ParallelUtils.map(resources,
+            threadCount,
+            "flyway-sql-resolver",
+            resource -> resolveMigration(resource, resourceNameParser, prefix, repeatable, checksumCache));
 
-            final SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource,
-                configuration.isMixed(),
-                resourceProvider);
-
-            final List<LoadableResource> resources = new ArrayList<>();
-            resources.add(resource);
-
-            if (sqlScript.includeReferencedScriptsInChecksum()) {
-                final SortedSet<LoadableResource> referencedResources = new TreeSet<>();
-                for (final SqlScript referencedSqlScript : sqlScript.getReferencedSqlScripts()) {
-                    referencedResources.add(referencedSqlScript.getResource());
-                }
-                if (!referencedResources.isEmpty()) {
-                    LOG.debug("Calculating checksum for '"
-                        + filename
-                        + "' using the following referenced scripts: "
-                        + referencedResources.stream().map(Resource::getFilename).collect(Collectors.joining(",")));
-                }
-                resources.addAll(referencedResources);
+        for (final ResolvedMigration resolvedMigration : resolvedMigrations) {
+            if (resolvedMigration != null) {
+                migrations.add(resolvedMigration);
             }
+        }
+    }
+
+    /**
+     * Resolves this resource into a migration. This may run concurrently for different resources.
+     *
+     * @return The resolved migration, or {@code null} if this resource isn't a migration with this prefix.
+     */
+    private ResolvedMigration resolveMigration(final LoadableResource resource,
+        final ResourceNameParser resourceNameParser,
+        final String prefix,
+        final boolean repeatable,
+        final ChecksumCache checksumCache) {
+        final String filename = resource.getFilename();
+        final ResourceName resourceName = resourceNameParser.parse(filename);
+        if (!resourceName.isValid() || isSqlCallback(resourceName) || !prefix.equals(resourceName.getPrefix())) {
+            return null;
+        }
+
+        final SqlScript sqlScript = sqlScriptFactory.createSqlScript(resource, configuration.isMixed(), resourceProvider);
 
-            final Integer checksum = getChecksumForLoadableResource(repeatable,
-                resources,
-                resourceName,
-                sqlScript.placeholderReplacement());
-            final Integer equivalentChecksum = getEquivalentChecksumForLoadableResource(repeatable, resources);
-
-            migrations.add(new ResolvedMigrationImpl(resourceName.getVersion(),
-                resourceName.getDescription(),
-                resource.getRelativePath(),
-                checksum,
-                equivalentChecksum,
-                CoreMigrationType.SQL,
-                resource.getAbsolutePathOnDisk(),
-                new SqlMigrationExecutor(sqlScriptExecutorFactory, sqlScript, false, configuration.isBatch())));
+        final List<LoadableResource> resources = new ArrayList<>();
+        resources.add(resource);
+
+        if (sqlScript.includeReferencedScriptsInChecksum()) {
+            final SortedSet<LoadableResource> referencedResources = new TreeSet<>();
+            for (final SqlScript referencedSqlScript : sqlScript.getReferencedSqlScripts()) {
+                referencedResources.add(referencedSqlScript.getResource());
+            }
+            if (!referencedResources.isEmpty()) {
+                LOG.debug("Calculating checksum for '"
+                    + filename
+                    + "' using the following referenced scripts: "
+                    + referencedResources.stream().map(Resource::getFilename).collect(Collectors.joining(",")));
+            }
+            resources.addAll(referencedResources);
         }
+
+        final Integer checksum = getChecksumForLoadableResource(repeatable,
+            resources,
+            resourceName,
+            sqlScript.placeholderReplacement(),
+            checksumCache);
+        final Integer equivalentChecksum = getEquivalentChecksumForLoadableResource(repeatable,
+            resources,
+            checksumCache);
+
+        return new ResolvedMigrationImpl(resourceName.getVersion(),
+            resourceName.getDescription(),
+            resource.getRelativePath(),
+            checksum,
+            equivalentChecksum,
+            CoreMigrationType.SQL,
+            resource.getAbsolutePathOnDisk(),
+            new SqlMigrationExecutor(sqlScriptExecutorFactory, sqlScript, false, configuration.isBatch()));
     }
 
     /**
@@ -19,8 +19,6 @@
  */
 package org.flywaydb.core.internal.resource.filesystem;
 
-import static org.flywaydb.core.internal.util.DataUnits.MEGABYTE;
-
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
@@ -32,6 +30,7 @@ import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.file.StandardOpenOption;
 import lombok.CustomLog;
+import lombok.Getter;
 import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.Location;
 import org.flywaydb.core.api.resource.LoadableResource;
@@ -40,15 +39,12 @@ import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 
 @CustomLog
 public class FileSystemResource extends LoadableResource {
-    /**
-     * The minimum file size (in bytes) as of which to apply streaming, when active. Files smaller than this threshold
-     * will not be streamed, regardless of the actual setting.
-     */
-    private static final long STREAM_MINIMUM_THRESHOLD = MEGABYTE.toBytes(1);
     private final boolean stream;
     private final File file;
     private final String relativePath;
+    @Getter
     private final Charset encoding;
+    @Getter
     private final boolean detectEncoding;
 
     public FileSystemResource(final Location location,
@@ -26,6 +26,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import lombok.CustomLog;
 import org.flywaydb.core.api.ClassProvider;
 import org.flywaydb.core.api.Location;
@@ -45,7 +46,7 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
 
     // Lookup maps to speed up getResource
     private final HashMap<String, LoadableResource> relativeResourceMap = new HashMap<>();
-    private HashMap<String, LoadableResource> absoluteResourceMap;
+    private Map<String, LoadableResource> absoluteResourceMap;
 
     public Scanner(final Class<? extends I> implementedInterface,
         final Configuration configuration,
@@ -87,21 +88,26 @@ public class Scanner<I> implements ResourceProvider, ClassProvider<I> {
         // absolute path is requested as this is really slow
         // Should only ever be required for sqlplus @
         if (Paths.get(name).isAbsolute()) {
-            if (absoluteResourceMap == null) {
-                absoluteResourceMap = new HashMap<>();
-                for (final LoadableResource resource : resources) {
-                    absoluteResourceMap.put(resource.getAbsolutePathOnDisk().toLowerCase(Locale.ROOT), resource);
-                }
-            }
-
-            loadedResource = absoluteResourceMap.get(name.toLowerCase(Locale.ROOT));
-
-            return loadedResource;
+            return getAbsoluteResourceMap().get(name.toLowerCase(Locale.ROOT));
         }
 
         return null;
     }
 
+    /**
+     * Resources may be looked up from several threads at once, so the map is built under a lock.
+     */
+    private synchronized Map<String, LoadableResource> getAbsoluteResourceMap() {
+        if (absoluteResourceMap == null) {
+            final Map<String, LoadableResource> map = new HashMap<>();
+            for (final LoadableResource resource : resources) {
+                map.put(resource.getAbsolutePathOnDisk().toLowerCase(Locale.ROOT), resource);
+            }
+            absoluteResourceMap = map;
+        }
+        return absoluteResourceMap;
+    }
+
     /**
      * Returns all known resources starting with the specified prefix and ending with any of the specified suffixes.
      *
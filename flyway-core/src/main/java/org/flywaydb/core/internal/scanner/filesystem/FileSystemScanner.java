@@ -83,9 +83,13 @@ public class FileSystemScanner {
         }
 
         final Collection<LoadableResource> resources = new TreeSet<>();
-        for (final String resourceName : findResourceNamesFromFileSystem(path, dir)) {
+        final Set<String> resourceNames = findResourceNamesFromFileSystem(path, dir);
+        for (final String resourceName : resourceNames) {
             if (matchesAnyWildcardRestrictions(location, resourceName)) {
-                final var resource = getResource(location, resourceName);
+                // The listing already tells whether there is a metadata file, saving a stat per resource
+                final var resource = getResource(location,
+                    resourceName,
+                    resourceNames.contains(resourceName + ".conf"));
                 resources.add(resource);
             }
         }
@@ -94,10 +98,16 @@ public class FileSystemScanner {
     }
 
     public LoadableResource getResource(final Location location, final String resourceName) {
+        return getResource(location, resourceName, new File(resourceName + ".conf").exists());
+    }
+
+    private LoadableResource getResource(final Location location,
+        final String resourceName,
+        final boolean hasMetadata) {
         boolean detectEncodingForThisResource = detectEncoding;
         Charset encoding = defaultEncoding;
         String encodingBlurb = "";
-        if (new File(resourceName + ".conf").exists()) {
+        if (hasMetadata) {
             final LoadableResource metadataResource = new FileSystemResource(location,
                 resourceName + ".conf",
                 defaultEncoding,
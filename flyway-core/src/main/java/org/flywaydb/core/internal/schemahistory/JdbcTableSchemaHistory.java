@@ -37,6 +37,7 @@ import org.flywaydb.core.internal.exception.FlywayUnknownMigrationTypeException;
 import org.flywaydb.core.internal.jdbc.ExecutionTemplateFactory;
 import org.flywaydb.core.internal.jdbc.JdbcNullTypes;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.RowMapper;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutorFactory;
 import org.flywaydb.core.internal.sqlscript.SqlScriptFactory;
 
@@ -247,59 +248,7 @@ class JdbcTableSchemaHistory extends SchemaHistory {
         final String query = database.getSelectStatement(table);
 
         try {
-            cache.addAll(jdbcTemplate.query(query, rs -> {
-                // Construct a map of lower-cased column names to ordinals. This is useful for databases that
-                // upper-case them - e.g. Snowflake with QUOTED-IDENTIFIERS-IGNORE-CASE turned on
-                final HashMap<String, Integer> columnOrdinalMap = constructColumnOrdinalMap(rs);
-
-                Integer checksum = null;
-                try {
-                    checksum = rs.getInt(columnOrdinalMap.get("checksum"));
-                } catch (NumberFormatException ignore) {
-                }
-                if (rs.wasNull()) {
-                    checksum = null;
-                }
-
-                final int installedRank = rs.getInt(columnOrdinalMap.get("installed_rank"));
-                final MigrationVersion version = rs.getString(columnOrdinalMap.get("version")) != null
-                    ? MigrationVersion.fromVersion(rs.getString(columnOrdinalMap.get("version")))
-                    : null;
-                final String description = rs.getString(columnOrdinalMap.get("description"));
-                final String type = rs.getString(columnOrdinalMap.get("type"));
-                final String script = rs.getString(columnOrdinalMap.get("script"));
-                final String installedBy = rs.getString(columnOrdinalMap.get("installed_by"));
-                final int executionTime = rs.getInt(columnOrdinalMap.get("execution_time"));
-                final boolean success = rs.getBoolean(columnOrdinalMap.get("success"));
-                Timestamp installedOn = rs.getTimestamp(columnOrdinalMap.get("installed_on"));
-                if (installedOn == null) {
-                    final String installedOnStr = rs.getString(columnOrdinalMap.get("installed_on"));
-                    if (StringUtils.hasText(installedOnStr)) {
-                        try {
-                            installedOn = Timestamp.valueOf(installedOnStr);
-                        } catch (IllegalArgumentException e) {
-                            // do nothing
-                        }
-                    }
-                }
-
-                return configuration.getPluginRegister()
-                    .getInstancesOf(AppliedMigration.class)
-                    .stream()
-                    .filter(am -> am.handlesType(type))
-                    .findFirst()
-                    .orElseThrow(() -> new FlywayUnknownMigrationTypeException(type))
-                    .create(installedRank,
-                        version,
-                        description,
-                        type,
-                        script,
-                        checksum,
-                        installedOn,
-                        installedBy,
-                        executionTime,
-                        success);
-            }, maxCachedInstalledRank));
+            cache.addAll(jdbcTemplate.query(query, new AppliedMigrationRowMapper(), maxCachedInstalledRank));
         } catch (SQLException e) {
             throw new FlywaySqlException(
                 "Error while retrieving the list of applied migrations from Schema History table " + table,
@@ -307,7 +256,7 @@ class JdbcTableSchemaHistory extends SchemaHistory {
         }
     }
 
-    private HashMap<String, Integer> constructColumnOrdinalMap(final ResultSet rs) throws SQLException {
+    private static HashMap<String, Integer> constructColumnOrdinalMap(final ResultSet rs) throws SQLException {
         final HashMap<String, Integer> columnOrdinalMap = new HashMap<>();
         final ResultSetMetaData metadata = rs.getMetaData();
 
@@ -320,6 +269,105 @@ class JdbcTableSchemaHistory extends SchemaHistory {
         return columnOrdinalMap;
     }
 
+    /**
+     * Maps the rows of a single schema history query. Column ordinals and the {@link AppliedMigration} factory of each
+     * type are resolved once per query rather than for every row.
+     */
+    private class AppliedMigrationRowMapper implements RowMapper<AppliedMigration> {
+        private final Map<String, AppliedMigration> appliedMigrationsByType = new HashMap<>();
+        private List<AppliedMigration> appliedMigrations;
+
+        private int checksumOrdinal;
+        private int installedRankOrdinal;
+        private int versionOrdinal;
+        private int descriptionOrdinal;
+        private int typeOrdinal;
+        private int scriptOrdinal;
+        private int installedByOrdinal;
+        private int executionTimeOrdinal;
+        private int successOrdinal;
+        private int installedOnOrdinal;
+
+        @Override
+        public AppliedMigration mapRow(final ResultSet rs) throws SQLException {
+            if (appliedMigrations == null) {
+                resolveColumnOrdinals(rs);
+                appliedMigrations = configuration.getPluginRegister().getInstancesOf(AppliedMigration.class);
+            }
+
+            Integer checksum = null;
+            try {
+                checksum = rs.getInt(checksumOrdinal);
+            } catch (NumberFormatException ignore) {
+            }
+            if (rs.wasNull()) {
+                checksum = null;
+            }
+
+            final int installedRank = rs.getInt(installedRankOrdinal);
+            final String versionStr = rs.getString(versionOrdinal);
+            final MigrationVersion version = versionStr != null ? MigrationVersion.fromVersion(versionStr) : null;
+            final String description = rs.getString(descriptionOrdinal);
+            final String type = rs.getString(typeOrdinal);
+            final String script = rs.getString(scriptOrdinal);
+            final String installedBy = rs.getString(installedByOrdinal);
+            final int executionTime = rs.getInt(executionTimeOrdinal);
+            final boolean success = rs.getBoolean(successOrdinal);
+            Timestamp installedOn = rs.getTimestamp(installedOnOrdinal);
+            if (installedOn == null) {
+                final String installedOnStr = rs.getString(installedOnOrdinal);
+                if (StringUtils.hasText(installedOnStr)) {
+                    try {
+                        installedOn = Timestamp.valueOf(installedOnStr);
+                    } catch (IllegalArgumentException e) {
+                        // do nothing
+                    }
+                }
+            }
+
+            return getAppliedMigrationFactory(type).create(installedRank,
+                version,
+                description,
+                type,
+                script,
+                checksum,
+                installedOn,
+                installedBy,
+                executionTime,
+                success);
+        }
+
+        private void resolveColumnOrdinals(final ResultSet rs) throws SQLException {
+            // Construct a map of lower-cased column names to ordinals. This is useful for databases that
+            // upper-case them - e.g. Snowflake with QUOTED-IDENTIFIERS-IGNORE-CASE turned on
+            final HashMap<String, Integer> columnOrdinalMap = constructColumnOrdinalMap(rs);
+            checksumOrdinal = columnOrdinalMap.get("checksum");
+            installedRankOrdinal = columnOrdinalMap.get("installed_rank");
+            versionOrdinal = columnOrdinalMap.get("version");
+            descriptionOrdinal = columnOrdinalMap.get("description");
+            typeOrdinal = columnOrdinalMap.get("type");
+            scriptOrdinal = columnOrdinalMap.get("script");
+            installedByOrdinal = columnOrdinalMap.get("installed_by");
+            executionTimeOrdinal = columnOrdinalMap.get("execution_time");
+            successOrdinal = columnOrdinalMap.get("success");
+            installedOnOrdinal = columnOrdinalMap.get("installed_on");
+        }
+
+        private AppliedMigration getAppliedMigrationFactory(final String type) {
+            final AppliedMigration appliedMigration = appliedMigrationsByType.get(type);
+            if (appliedMigration != null) {
+                return appliedMigration;
+            }
+
+            final AppliedMigration factory = appliedMigrations.stream()
+                .filter(am -> am.handlesType(type))
+                .findFirst()
+                .orElseThrow(() -> new FlywayUnknownMigrationTypeException(type));
+            appliedMigrationsByType.put(type, factory);
+            return factory;
+        }
+    }
+
     @Override
     public boolean removeFailedMigrations(final RepairResult repairResult,
         final MigrationPattern[] migrationPatternFilter) {
@@ -0,0 +1,141 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import lombok.CustomLog;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Combines runs of {@link SingleRowInsertStatement}s with the same target read from another iterator into multi-row
+ * INSERTs, within a limit on the number of rows and the size of the combined statement.
+ */
+@CustomLog
+public class CoalescingSqlStatementIterator implements SqlStatementIterator {
+    private final SqlStatementIterator statements;
+    private final int maxRows;
+    private final long maxBytes;
+
+    /**
+     * The statement read ahead that didn't fit into the previous combined statement.
+     */
+    private SqlStatement pending;
+    /**
+     * A failure of the underlying iterator while reading ahead, rethrown once the statements before it are consumed.
+     */
+    private RuntimeException pendingFailure;
+    private boolean ended;
+
+    private SqlStatement nextStatement;
+    private boolean needToRefreshNextStatement = true;
+
+    public CoalescingSqlStatementIterator(final SqlStatementIterator statements,
+        final int maxRows,
+        final long maxBytes) {
+        this.statements = statements;
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (needToRefreshNextStatement) {
+            nextStatement = readNext();
+            needToRefreshNextStatement = false;
+        }
+        return nextStatement != null;
+    }
+
+    @Override
+    public SqlStatement next() {
+        if (needToRefreshNextStatement) {
+            nextStatement = readNext();
+        }
+        needToRefreshNextStatement = true;
+        return nextStatement;
+    }
+
+    private SqlStatement readNext() {
+        final SqlStatement statement;
+        if (pending != null) {
+            statement = pending;
+            pending = null;
+        } else {
+            statement = readUnderlying();
+        }
+        if (!(statement instanceof SingleRowInsertStatement first)) {
+            return statement;
+        }
+
+        final int rowLimit = Math.min(maxRows, first.getMaxRows());
+        final long byteLimit = Math.min(maxBytes, first.getMaxBytes());
+        long bytes = DefaultSqlScriptExecutor.getEncodedLength(first.getSql());
+        final List<SingleRowInsertStatement> following = new ArrayList<>();
+        while (following.size() + 1 < rowLimit) {
+            final SqlStatement next;
+            try {
+                next = readUnderlying();
+            } catch (final RuntimeException e) {
+                pendingFailure = e;
+                break;
+            }
+            if (next == null) {
+                break;
+            }
+            final long nextBytes = DefaultSqlScriptExecutor.getEncodedLength(next.getSql());
+            if (!(next instanceof SingleRowInsertStatement insert)
+                || !first.hasSameTarget(insert)
+                || bytes + nextBytes > byteLimit) {
+                pending = next;
+                break;
+            }
+            following.add(insert);
+            bytes += nextBytes;
+        }
+
+        if (!following.isEmpty()) {
+            LOG.debug("Combined " + (following.size() + 1) + " single-row INSERTs starting at line "
+                + first.getLineNumber());
+        }
+        return first.combine(following);
+    }
+
+    private SqlStatement readUnderlying() {
+        if (pendingFailure != null) {
+            final RuntimeException failure = pendingFailure;
+            pendingFailure = null;
+            throw failure;
+        }
+        if (ended) {
+            return null;
+        }
+        final SqlStatement statement = statements.next();
+        if (statement == null) {
+            ended = true;
+        }
+        return statement;
+    }
+
+    @Override
+    public void close() {
+        statements.close();
+    }
+}
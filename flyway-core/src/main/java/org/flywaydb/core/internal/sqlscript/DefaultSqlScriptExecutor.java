@@ -59,9 +59,15 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
     private final StatementInterceptor statementInterceptor;
 
     /**
-     * The maximum number of statements to include in a batch.
+     * The maximum number of statements to include in a batch, unless the database type or the configuration says
+     * otherwise.
      */
-    private static final int MAX_BATCH_SIZE = 100;
+    public static final int DEFAULT_BATCH_MAX_STATEMENTS = 100;
+
+    /**
+     * The maximum number of statements to include in a batch when {@code batchMaxStatements} isn't configured.
+     */
+    private final int defaultBatchMaxStatements;
 
     /**
      * Whether to batch SQL statements.
@@ -81,12 +87,29 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
         final boolean batch,
         final boolean outputQueryResults,
         final StatementInterceptor statementInterceptor) {
+        this(jdbcTemplate,
+            callbackExecutor,
+            undo,
+            batch,
+            outputQueryResults,
+            statementInterceptor,
+            DEFAULT_BATCH_MAX_STATEMENTS);
+    }
+
+    public DefaultSqlScriptExecutor(final JdbcTemplate jdbcTemplate,
+        final CallbackExecutor<Event> callbackExecutor,
+        final boolean undo,
+        final boolean batch,
+        final boolean outputQueryResults,
+        final StatementInterceptor statementInterceptor,
+        final int defaultBatchMaxStatements) {
         this.jdbcTemplate = jdbcTemplate;
         this.undo = undo;
         this.statementInterceptor = statementInterceptor;
         this.callbackExecutor = callbackExecutor;
         this.outputQueryResults = outputQueryResults;
         this.batch = batch;
+        this.defaultBatchMaxStatements = defaultBatchMaxStatements;
     }
 
     private ErrorOverridesSupport getErrorOverridesSupport(final Configuration config) {
@@ -103,9 +126,15 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
             statementInterceptor.sqlScript(sqlScript.getResource());
         }
 
+        final SqlScriptExecutionConfigurationExtension executionConfiguration = config.getPluginRegister()
+            .getExact(SqlScriptExecutionConfigurationExtension.class);
+        final int batchMaxStatements = executionConfiguration.getMaxStatementsPerBatch(defaultBatchMaxStatements);
+        final long batchMaxBytes = executionConfiguration.getMaxBytesPerBatch();
+
         List<SqlStatement> batchStatements = new ArrayList<>();
+        long batchBytes = 0;
 
-        try (SqlStatementIterator sqlStatementIterator = sqlScript.getSqlStatements()) {
+        try (SqlStatementIterator sqlStatementIterator = getSqlStatements(sqlScript, config)) {
             SqlStatement sqlStatement;
             while ((sqlStatement = sqlStatementIterator.next()) != null) {
                 if (statementInterceptor != null) {
@@ -131,16 +160,25 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
                         Collections.<Error>emptyList());
                 } else if (batch) {
                     if (sqlStatement.isBatchable()) {
+                        final long statementBytes = getEncodedLength(sqlStatement.getSql());
+                        if (!batchStatements.isEmpty() && batchBytes + statementBytes > batchMaxBytes) {
+                            results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
+                            batchStatements = new ArrayList<>();
+                            batchBytes = 0;
+                        }
                         logStatementExecution(sqlStatement);
                         batchStatements.add(sqlStatement);
-                        if (batchStatements.size() >= MAX_BATCH_SIZE) {
+                        batchBytes += statementBytes;
+                        if (batchStatements.size() >= batchMaxStatements) {
                             results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
                             batchStatements = new ArrayList<>();
+                            batchBytes = 0;
                         }
                     } else {
                         // Execute the batch up to this point
                         results.add(executeBatch(jdbcTemplate, sqlScript, batchStatements, config));
                         batchStatements = new ArrayList<>();
+                        batchBytes = 0;
                         // Now execute this non-batchable statement. We'll resume batching after this one.
                         results.add(executeStatement(jdbcTemplate, sqlScript, sqlStatement, config));
                     }
@@ -157,6 +195,42 @@ public class DefaultSqlScriptExecutor implements SqlScriptExecutor {
         return results;
     }
 
+    private SqlStatementIterator getSqlStatements(final SqlScript sqlScript, final Configuration config) {
+        final SqlScriptExecutionConfigurationExtension executionConfiguration = config.getPluginRegister()
+            .getExact(SqlScriptExecutionConfigurationExtension.class);
+
+        SqlStatementIterator sqlStatements = sqlScript.getSqlStatements();
+        // Scripts that aren't streamed were parsed in full up front, so there is no parsing left to overlap
+        if (sqlScript.getResource().shouldStream() && executionConfiguration.isPipelinedExecutionEnabled()) {
+            sqlStatements = new PrefetchingSqlStatementIterator(sqlStatements, sqlScript.getResource().getFilename());
+        }
+        if (executionConfiguration.isCoalesceInsertsEnabled()) {
+            sqlStatements = new CoalescingSqlStatementIterator(sqlStatements,
+                executionConfiguration.getMaxRowsPerCoalescedInsert(),
+                executionConfiguration.getMaxBytesPerBatch());
+        }
+        return sqlStatements;
+    }
+
+    /**
+     * @return The number of bytes this SQL takes up when encoded as UTF-8, which is what batch limits are measured in.
+     */
+    static long getEncodedLength(final String sql) {
+        long length = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            final char c = sql.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800 || Character.isSurrogate(c)) {
+                // Each half of a surrogate pair accounts for half of its four bytes
+                length += 2;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
     protected void logStatementExecution(final SqlStatement sqlStatement) {
         LOG.debug("Executing "
             + (batch && sqlStatement.isBatchable() ? "batchable " : "")
@@ -21,6 +21,7 @@ package org.flywaydb.core.internal.sqlscript;
 
 import lombok.CustomLog;
 import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.logging.LogFactory;
 import org.flywaydb.core.api.resource.LoadableResource;
 import org.flywaydb.core.internal.parser.Parser;
 
@@ -49,6 +50,10 @@ public class ParserSqlScript implements SqlScript {
     protected final Parser parser;
     private final boolean mixed;
     private boolean parsed;
+    /**
+     * The failure to parse this script ahead of time, rethrown once the parsed script is needed.
+     */
+    private RuntimeException parseFailure;
 
     private final boolean stream;
     private final Set<SqlScript> referencedSqlScripts = new TreeSet<>();
@@ -109,10 +114,11 @@ public class ParserSqlScript implements SqlScript {
                     referencedSqlScripts.addAll(referencedSqlScript.getReferencedSqlScripts());
                 }
 
-                LOG.debug("Found statement at line " + sqlStatement.getLineNumber() + ": " + sqlStatement.getSql() + (
-                    sqlStatement.canExecuteInTransaction()
-                        ? ""
-                        : " [non-transactional]"));
+                // Streamed statements are only counted here, so don't copy them into log messages nobody will see
+                if (LogFactory.isDebugEnabled()) {
+                    LOG.debug("Found statement at line " + sqlStatement.getLineNumber() + ": " + sqlStatement.getSql()
+                        + (sqlStatement.canExecuteInTransaction() ? "" : " [non-transactional]"));
+                }
             }
         }
         parsed = true;
@@ -120,11 +126,26 @@ public class ParserSqlScript implements SqlScript {
 
     @Override
     public void validate() {
+        if (parseFailure != null) {
+            throw parseFailure;
+        }
         if (!parsed) {
             parse();
         }
     }
 
+    /**
+     * Parses this script ahead of time, as {@link #validate()} would. A failure is kept and rethrown by the first call
+     * that needs the parsed script, so pre-parsing never fails a command on a script it was not going to look at.
+     */
+    public void preParse() {
+        try {
+            validate();
+        } catch (final RuntimeException e) {
+            parseFailure = e;
+        }
+    }
+
     @Override
     public SqlStatementIterator getSqlStatements() {
         validate();
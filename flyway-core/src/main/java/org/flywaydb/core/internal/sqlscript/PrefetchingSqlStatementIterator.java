@@ -0,0 +1,128 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import lombok.CustomLog;
+import org.flywaydb.core.api.CoreErrorCode;
+import org.flywaydb.core.api.FlywayException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Reads statements from another iterator on a background thread, so the next statements are being parsed while the
+ * current one executes. Statements are handed over in order through a bounded queue, and a failure of the underlying
+ * iterator is rethrown by {@link #next()} at the point in the sequence where it occurred.
+ */
+@CustomLog
+public class PrefetchingSqlStatementIterator implements SqlStatementIterator {
+    private static final int QUEUE_CAPACITY = 64;
+
+    /**
+     * Marks the end of the statements, or the point at which the underlying iterator failed.
+     */
+    private static final Object END = new Object();
+
+    private final BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread producer;
+    private volatile Throwable failure;
+
+    private SqlStatement nextStatement;
+    private boolean needToRefreshNextStatement = true;
+    private boolean ended;
+
+    public PrefetchingSqlStatementIterator(final SqlStatementIterator statements, final String name) {
+        producer = new Thread(() -> produce(statements), "flyway-parser-" + name);
+        producer.setDaemon(true);
+        producer.start();
+    }
+
+    private void produce(final SqlStatementIterator statements) {
+        try (statements) {
+            SqlStatement sqlStatement;
+            while ((sqlStatement = statements.next()) != null) {
+                queue.put(sqlStatement);
+            }
+        } catch (final InterruptedException e) {
+            // The consumer stopped early
+            return;
+        } catch (final RuntimeException | Error e) {
+            failure = e;
+        }
+        try {
+            queue.put(END);
+        } catch (final InterruptedException e) {
+            // The consumer stopped early
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (needToRefreshNextStatement) {
+            nextStatement = take();
+            needToRefreshNextStatement = false;
+        }
+        return nextStatement != null;
+    }
+
+    @Override
+    public SqlStatement next() {
+        if (needToRefreshNextStatement) {
+            nextStatement = take();
+        }
+        needToRefreshNextStatement = true;
+        return nextStatement;
+    }
+
+    private SqlStatement take() {
+        if (ended) {
+            return null;
+        }
+        final Object item;
+        try {
+            item = queue.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while waiting for the next statement", e, CoreErrorCode.FAULT);
+        }
+        if (item == END) {
+            ended = true;
+            if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (failure instanceof Error error) {
+                throw error;
+            }
+            return null;
+        }
+        return (SqlStatement) item;
+    }
+
+    @Override
+    public void close() {
+        producer.interrupt();
+        try {
+            producer.join();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.debug("Interrupted while waiting for statement parsing to stop");
+        }
+    }
+}
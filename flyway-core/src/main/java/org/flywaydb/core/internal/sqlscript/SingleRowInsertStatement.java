@@ -0,0 +1,106 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * An {@code INSERT ... VALUES} statement inserting a single row. Consecutive statements of this kind inserting into the
+ * same table and columns can be combined into a single multi-row {@code INSERT}.
+ */
+public class SingleRowInsertStatement extends ParsedSqlStatement {
+    private final Delimiter delimiter;
+
+    /**
+     * The offset in the SQL just past the {@code VALUES} keyword.
+     */
+    private final int valuesEnd;
+
+    /**
+     * The maximum number of rows the database accepts in a single {@code VALUES} clause.
+     */
+    @Getter
+    private final int maxRows;
+
+    /**
+     * The maximum size in bytes of the statement these rows can be combined into.
+     */
+    @Getter
+    private final long maxBytes;
+
+    public SingleRowInsertStatement(final int pos,
+        final int line,
+        final int col,
+        final String sql,
+        final Delimiter delimiter,
+        final boolean canExecuteInTransaction,
+        final boolean batchable,
+        final int valuesEnd,
+        final int maxRows,
+        final long maxBytes) {
+        super(pos, line, col, sql, delimiter, canExecuteInTransaction, batchable);
+        this.delimiter = delimiter;
+        this.valuesEnd = valuesEnd;
+        this.maxRows = maxRows;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * @return Whether this statement inserts into the same table and columns as this other one, in the same way.
+     */
+    public boolean hasSameTarget(final SingleRowInsertStatement other) {
+        return valuesEnd == other.valuesEnd
+            && canExecuteInTransaction() == other.canExecuteInTransaction()
+            && isBatchable() == other.isBatchable()
+            && getDelimiter().equals(other.getDelimiter())
+            && getSql().regionMatches(0, other.getSql(), 0, valuesEnd);
+    }
+
+    /**
+     * @return The row inserted by this statement, including its parentheses.
+     */
+    public String getRow() {
+        return getSql().substring(valuesEnd).trim();
+    }
+
+    /**
+     * Combines this statement and the following ones, which must all have the same target, into a single statement
+     * inserting all their rows. The combined statement reports the position of this one.
+     */
+    public ParsedSqlStatement combine(final List<SingleRowInsertStatement> following) {
+        if (following.isEmpty()) {
+            return this;
+        }
+        final StringBuilder sql = new StringBuilder(getSql().length() * (following.size() + 1));
+        sql.append(getSql(), 0, valuesEnd).append(' ').append(getRow());
+        for (final SingleRowInsertStatement statement : following) {
+            sql.append(",\n").append(statement.getRow());
+        }
+        return new ParsedSqlStatement(getPos(),
+            getLine(),
+            getCol(),
+            sql.toString(),
+            delimiter,
+            canExecuteInTransaction(),
+            isBatchable());
+    }
+}
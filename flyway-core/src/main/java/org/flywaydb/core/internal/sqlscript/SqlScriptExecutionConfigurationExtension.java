@@ -0,0 +1,115 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.sqlscript;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+
+/**
+ * Configuration for how the statements of SQL scripts are sent to the database. Values are nullable so that merging
+ * configurations only overrides what was explicitly set.
+ */
+@Getter
+@Setter
+public class SqlScriptExecutionConfigurationExtension implements ConfigurationExtension {
+    private static final String PIPELINED_EXECUTION = "flyway.pipelinedExecution";
+    private static final String BATCH_MAX_STATEMENTS = "flyway.batchMaxStatements";
+    private static final String BATCH_MAX_BYTES = "flyway.batchMaxBytes";
+    private static final String COALESCE_INSERTS = "flyway.coalesceInserts";
+    private static final String COALESCE_INSERTS_MAX_ROWS = "flyway.coalesceInsertsMaxRows";
+    private static final int DEFAULT_COALESCE_INSERTS_MAX_ROWS = 1000;
+    private static final int DEFAULT_BATCH_MAX_BYTES = 16 * 1024 * 1024;
+
+    /**
+     * Whether to parse the statements of streamed scripts on a separate thread while earlier statements execute.
+     */
+    private Boolean pipelinedExecution;
+    /**
+     * The maximum number of statements to send to the database in a single batch. Defaults to a value chosen by the
+     * database type.
+     */
+    private Integer batchMaxStatements;
+    /**
+     * The maximum combined size in bytes of the statements in a single batch.
+     */
+    private Integer batchMaxBytes;
+    /**
+     * Whether to combine consecutive single-row INSERTs into the same table and columns into multi-row INSERTs.
+     */
+    private Boolean coalesceInserts;
+    /**
+     * The maximum number of rows in a combined INSERT. Databases with a lower limit of their own use that instead.
+     */
+    private Integer coalesceInsertsMaxRows;
+
+    @JsonIgnore
+    public boolean isPipelinedExecutionEnabled() {
+        return pipelinedExecution != null && pipelinedExecution;
+    }
+
+    /**
+     * @param databaseDefault The limit the database type prefers when none is configured.
+     */
+    public int getMaxStatementsPerBatch(final int databaseDefault) {
+        return Math.max(1, batchMaxStatements == null ? databaseDefault : batchMaxStatements);
+    }
+
+    @JsonIgnore
+    public long getMaxBytesPerBatch() {
+        return Math.max(1, batchMaxBytes == null ? DEFAULT_BATCH_MAX_BYTES : batchMaxBytes);
+    }
+
+    @JsonIgnore
+    public boolean isCoalesceInsertsEnabled() {
+        return coalesceInserts != null && coalesceInserts;
+    }
+
+    @JsonIgnore
+    public int getMaxRowsPerCoalescedInsert() {
+        return Math.max(1, coalesceInsertsMaxRows == null ? DEFAULT_COALESCE_INSERTS_MAX_ROWS : coalesceInsertsMaxRows);
+    }
+
+    @Override
+    public String getNamespace() {
+        return "";
+    }
+
+    @Override
+    public String getConfigurationParameterFromEnvironmentVariable(final String environmentVariable) {
+        if ("FLYWAY_PIPELINED_EXECUTION".equals(environmentVariable)) {
+            return PIPELINED_EXECUTION;
+        }
+        if ("FLYWAY_BATCH_MAX_STATEMENTS".equals(environmentVariable)) {
+            return BATCH_MAX_STATEMENTS;
+        }
+        if ("FLYWAY_BATCH_MAX_BYTES".equals(environmentVariable)) {
+            return BATCH_MAX_BYTES;
+        }
+        if ("FLYWAY_COALESCE_INSERTS".equals(environmentVariable)) {
+            return COALESCE_INSERTS;
+        }
+        if ("FLYWAY_COALESCE_INSERTS_MAX_ROWS".equals(environmentVariable)) {
+            return COALESCE_INSERTS_MAX_ROWS;
+        }
+        return null;
+    }
+}
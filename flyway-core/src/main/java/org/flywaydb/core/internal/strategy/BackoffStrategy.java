@@ -19,6 +19,7 @@
  */
 package org.flywaydb.core.internal.strategy;
 
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
@@ -33,10 +34,26 @@ public class BackoffStrategy {
      */
     public int next() {
         final int temp = current;
-        current = Math.min(current * exponent, interval);
+        // Clamped before multiplying, so that a large interval can't overflow the counter
+        current = (int) Math.max(0, Math.min((long) Math.min(current, interval) * exponent, interval));
         return temp;
     }
 
+    /**
+     * Like {@link #next()}, but randomised by up to half the value either way, so that processes backing off at the
+     * same time spread out rather than retrying in lockstep. The average is unchanged.
+     *
+     * @return The current value of the counter with jitter applied, immediately updating it with the next value
+     */
+    public int nextWithJitter() {
+        final int temp = next();
+        if (temp < 2) {
+            return Math.max(0, temp);
+        }
+        final long jittered = temp / 2 + ThreadLocalRandom.current().nextLong(temp + 1L);
+        return (int) Math.min(jittered, Integer.MAX_VALUE);
+    }
+
     /**
      * @return The current value of the counter without updating it
      */
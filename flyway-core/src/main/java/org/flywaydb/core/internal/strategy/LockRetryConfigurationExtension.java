@@ -0,0 +1,92 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.strategy;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+import org.flywaydb.core.extensibility.ConfigurationExtension;
+
+/**
+ * Configuration for how long to wait between attempts to acquire a lock. Values are nullable so that merging
+ * configurations only overrides what was explicitly set.
+ */
+@Getter
+@Setter
+public class LockRetryConfigurationExtension implements ConfigurationExtension {
+    private static final String LOCK_RETRY_MIN_WAIT = "flyway.lockRetryMinWait";
+    private static final String LOCK_RETRY_MAX_WAIT = "flyway.lockRetryMaxWait";
+    private static final int DEFAULT_WAIT_MILLIS = 1000;
+
+    /**
+     * The wait in milliseconds before the first retry. Later waits double up to {@link #lockRetryMaxWait}.
+     */
+    private Integer lockRetryMinWait;
+    /**
+     * The maximum wait in milliseconds between retries.
+     */
+    private Integer lockRetryMaxWait;
+
+    /**
+     * Creates a new backoff for a single attempt to acquire a lock. Waits should be taken with
+     * {@link BackoffStrategy#nextWithJitter()} so that competing processes don't retry at the same moments.
+     */
+    @JsonIgnore
+    public BackoffStrategy createBackoffStrategy() {
+        return new BackoffStrategy(getMinWaitMillis(), 2, getMaxWaitMillis());
+    }
+
+    /**
+     * Like {@link #createBackoffStrategy()}, but starting at no more than this wait, for locks that are usually only
+     * held briefly and so are worth retrying sooner than the configured minimum wait.
+     */
+    @JsonIgnore
+    public BackoffStrategy createBackoffStrategy(final int initialWaitMillis) {
+        return new BackoffStrategy(Math.max(1, Math.min(initialWaitMillis, getMinWaitMillis())),
+            2,
+            getMaxWaitMillis());
+    }
+
+    @JsonIgnore
+    public int getMinWaitMillis() {
+        return Math.max(1, lockRetryMinWait == null ? DEFAULT_WAIT_MILLIS : lockRetryMinWait);
+    }
+
+    @JsonIgnore
+    public int getMaxWaitMillis() {
+        return Math.max(getMinWaitMillis(), lockRetryMaxWait == null ? DEFAULT_WAIT_MILLIS : lockRetryMaxWait);
+    }
+
+    @Override
+    public String getNamespace() {
+        return "";
+    }
+
+    @Override
+    public String getConfigurationParameterFromEnvironmentVariable(final String environmentVariable) {
+        if ("FLYWAY_LOCK_RETRY_MIN_WAIT".equals(environmentVariable)) {
+            return LOCK_RETRY_MIN_WAIT;
+        }
+        if ("FLYWAY_LOCK_RETRY_MAX_WAIT".equals(environmentVariable)) {
+            return LOCK_RETRY_MAX_WAIT;
+        }
+        return null;
+    }
+}
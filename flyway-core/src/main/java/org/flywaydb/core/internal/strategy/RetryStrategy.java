@@ -20,6 +20,7 @@
 package org.flywaydb.core.internal.strategy;
 
 import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.internal.util.SqlCallable;
 
 import java.sql.SQLException;
@@ -28,30 +29,29 @@ import java.sql.SQLException;
  * A class that retries a Callable a given number of times until success is obtained.
  */
 public class RetryStrategy {
-
-    /**
-     * We hard-code a default of 50 retries here, but this may be overridden by configuration.
-     */
-    private static int numberOfRetries = 50;
-    private static boolean unlimitedRetries;
+    private final boolean unlimitedRetries;
+    private final BackoffStrategy backoffStrategy;
 
     private int numberOfRetriesRemaining;
 
     /**
      * A class that retries a Callable a given number of times until success is obtained.
+     *
+     * @param numberOfRetries The number of retries to attempt before giving up. To try forever, use -1.
+     * @param backoffStrategy The waits between retries, which are randomised to avoid retrying in lockstep.
      */
-    public RetryStrategy() {
-        numberOfRetriesRemaining = numberOfRetries;
+    public RetryStrategy(final int numberOfRetries, final BackoffStrategy backoffStrategy) {
+        this.numberOfRetriesRemaining = numberOfRetries;
+        this.unlimitedRetries = numberOfRetries < 0;
+        this.backoffStrategy = backoffStrategy;
     }
 
     /**
-     * Set the number of retries that are to be attempted before giving up.
-     *
-     * @param retries The number of retries to attempt. To try forever, use -1.
+     * Creates a strategy for acquiring a lock, with the number of retries and waits taken from this configuration.
      */
-    public static void setNumberOfRetries(final int retries) {
-        numberOfRetries = retries;
-        unlimitedRetries = (retries < 0);
+    public static RetryStrategy forLocking(final Configuration configuration) {
+        return new RetryStrategy(configuration.getLockRetryCount(),
+            configuration.getPluginRegister().getExact(LockRetryConfigurationExtension.class).createBackoffStrategy());
     }
 
     private boolean hasMoreRetries() {
@@ -65,7 +65,7 @@ public class RetryStrategy {
     }
 
     private int nextWaitInMilliseconds() {
-        return 1000;
+        return backoffStrategy.nextWithJitter();
     }
 
     /**
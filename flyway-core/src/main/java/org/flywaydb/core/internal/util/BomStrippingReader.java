@@ -48,4 +48,24 @@ public class BomStrippingReader extends FilterReader {
         }
         return c;
     }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+        int count;
+        do {
+            final int read = super.read(cbuf, off, len);
+            if (read == EMPTY_STREAM) {
+                return EMPTY_STREAM;
+            }
+            // Drop BOMs in place, keeping the remaining characters contiguous
+            count = 0;
+            for (int i = off; i < off + read; i++) {
+                final char c = cbuf[i];
+                if (!BomFilter.isBom(c)) {
+                    cbuf[off + count++] = c;
+                }
+            }
+        } while (count == 0 && len > 0);
+        return count;
+    }
 }
@@ -0,0 +1,112 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.core.internal.util;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.flywaydb.core.api.CoreErrorCode;
+import org.flywaydb.core.api.FlywayException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParallelUtils {
+    /**
+     * Applies this function to each of these items on a bounded pool of daemon worker threads. Falls back to applying
+     * it on the calling thread when there is at most one thread or one item.
+     * <p>
+     * Failures are reported deterministically: if several items fail, the exception of the first failing item in
+     * iteration order is rethrown, regardless of which one failed first in time.
+     *
+     * @param items            The items to process.
+     * @param threads          The maximum number of worker threads to use.
+     * @param threadNamePrefix The prefix for the names of the worker threads.
+     * @param function         The function to apply to each item. Must be safe to call concurrently.
+     * @return The results, in the same order as the items.
+     */
+    public static <T, R> List<R> map(final List<? extends T> items,
+        final int threads,
+        final String threadNamePrefix,
+        final Function<? super T, ? extends R> function) {
+        final int poolSize = Math.min(threads, items.size());
+        if (poolSize <= 1) {
+            final List<R> results = new ArrayList<>(items.size());
+            for (final T item : items) {
+                results.add(function.apply(item));
+            }
+            return results;
+        }
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executorService = Executors.newFixedThreadPool(poolSize, runnable -> {
+            final Thread thread = new Thread(runnable, threadNamePrefix + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<R>> futures = new ArrayList<>(items.size());
+            for (final T item : items) {
+                final Callable<R> task = () -> function.apply(item);
+                futures.add(executorService.submit(task));
+            }
+
+            final List<R> results = new ArrayList<>(items.size());
+            for (final Future<R> future : futures) {
+                results.add(awaitCompletion(future));
+            }
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The number of threads to use for a parallel operation when none is configured.
+     */
+    public static int getDefaultThreadCount() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static <R> R awaitCompletion(final Future<R> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FlywayException("Interrupted while waiting for parallel task to complete", e, CoreErrorCode.FAULT);
+        } catch (final ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new FlywayException("Parallel task failed", cause, CoreErrorCode.FAULT);
+        }
+    }
+}
@@ -35,7 +35,7 @@ public class DatabricksTable extends Table<DatabricksDatabase, DatabricksSchema>
         final DatabricksSchema schema,
         final String name) {
         super(jdbcTemplate, database, schema, name);
-        this.insertRowLock = new InsertRowLock(jdbcTemplate);
+        this.insertRowLock = new InsertRowLock(jdbcTemplate, database.getConfiguration());
     }
 
     @Override
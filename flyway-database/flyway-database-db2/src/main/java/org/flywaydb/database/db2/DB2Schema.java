@@ -89,54 +89,36 @@ public class DB2Schema extends Schema<DB2Database, DB2Table> {
             final List<String> dropVersioningStatements = generateDropVersioningStatement();
             if (!dropVersioningStatements.isEmpty()) {
                 // Do a explicit drop of MQTs in order to be able to drop the Versioning
-                for (final String dropTableStatement : generateDropStatements("S", "TABLE")) {
-                    jdbcTemplate.execute(dropTableStatement);
-                }
+                executeDropStatements(generateDropStatements("S", "TABLE"));
             }
 
-            for (final String dropVersioningStatement : dropVersioningStatements) {
-                jdbcTemplate.execute(dropVersioningStatement);
-            }
+            executeDropStatements(dropVersioningStatements);
         }
 
         // views
-        for (final String dropStatement : generateDropStatementsForViews()) {
-            jdbcTemplate.execute(dropStatement);
-        }
+        executeDropStatements(generateDropStatementsForViews());
 
         // aliases
-        for (final String dropStatement : generateDropStatements("A", "ALIAS")) {
-            jdbcTemplate.execute(dropStatement);
-        }
+        executeDropStatements(generateDropStatements("A", "ALIAS"));
 
         // temporary Tables
-        for (final String dropStatement : generateDropStatements("G", "TABLE")) {
-            jdbcTemplate.execute(dropStatement);
-        }
+        executeDropStatements(generateDropStatements("G", "TABLE"));
 
         for (final Table table : allTables()) {
             table.drop();
         }
 
         // sequences
-        for (final String dropStatement : generateDropStatementsForSequences()) {
-            jdbcTemplate.execute(dropStatement);
-        }
+        executeDropStatements(generateDropStatementsForSequences());
 
         // procedures
-        for (final String dropStatement : generateDropStatementsForProcedures()) {
-            jdbcTemplate.execute(dropStatement);
-        }
+        executeDropStatements(generateDropStatementsForProcedures());
 
         // triggers
-        for (final String dropStatement : generateDropStatementsForTriggers()) {
-            jdbcTemplate.execute(dropStatement);
-        }
+        executeDropStatements(generateDropStatementsForTriggers());
 
         // modules
-        for (final String dropStatement : generateDropStatementsForModules()) {
-            jdbcTemplate.execute(dropStatement);
-        }
+        executeDropStatements(generateDropStatementsForModules());
 
         for (final Function function : allFunctions()) {
             function.drop();
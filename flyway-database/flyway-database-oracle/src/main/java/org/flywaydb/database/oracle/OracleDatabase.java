@@ -30,6 +30,7 @@ import org.flywaydb.core.extensibility.Tier;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.RowMapper;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 
@@ -130,6 +131,27 @@ public class OracleDatabase extends Database<OracleConnection> {
         return getMainConnection().getJdbcTemplate().queryForString("SELECT USER FROM DUAL");
     }
 
+    @Override
+    protected int getDefaultCleanBatchSize() {
+        // The driver executes a Statement batch one at a time, so drops are sent as an anonymous block instead
+        return 50;
+    }
+
+    @Override
+    public void executeDropBatch(final JdbcTemplate jdbcTemplate, final List<String> statements) throws SQLException {
+        final StringBuilder block = new StringBuilder("BEGIN\n");
+        for (final String statement : statements) {
+            block.append("EXECUTE IMMEDIATE '").append(statement.replace("'", "''")).append("';\n");
+        }
+        jdbcTemplate.execute(block.append("END;").toString());
+    }
+
+    @Override
+    public boolean supportsParallelClean() {
+        // Cleaning a schema looks up users, privileges and available features through the main connection
+        return false;
+    }
+
     @Override
     public boolean supportsDdlTransactions() {
         return false;
@@ -143,6 +143,7 @@ public class OracleDatabaseType extends BaseDatabaseType {
         final CallbackExecutor<Event> callbackExecutor,
         final StatementInterceptor statementInterceptor) {
         final boolean supportsBatch = jdbcConnectionFactory.isSupportsBatch();
+        final int defaultBatchMaxStatements = getDefaultBatchMaxStatements(jdbcConnectionFactory.getJdbcUrl());
 
         final DatabaseType thisRef = this;
 
@@ -161,7 +162,7 @@ public class OracleDatabaseType extends BaseDatabaseType {
 
 
 
-             return new DefaultSqlScriptExecutor(new JdbcTemplate(connection, thisRef), callbackExecutor, undo, batch, outputQueryResults, statementInterceptor);
+             return new DefaultSqlScriptExecutor(new JdbcTemplate(connection, thisRef), callbackExecutor, undo, batch, outputQueryResults, statementInterceptor, defaultBatchMaxStatements);
 
         };
     }
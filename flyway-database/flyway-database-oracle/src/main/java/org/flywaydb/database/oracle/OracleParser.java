@@ -88,7 +88,14 @@ public class OracleParser extends Parser {
     private static final Pattern DROP_IF_EXISTS = Pattern.compile(".*DROP\\s(\\S+\\s){0,2}IF\\sEXISTS");
 
     private static final StatementType PLSQL_WRAPPED_STATEMENT = new StatementType();
-    private int initialWrappedBlockDepth = -1;
+
+    private static class OracleParserContext extends ParserContext {
+        private int initialWrappedBlockDepth = -1;
+
+        private OracleParserContext(final Delimiter delimiter) {
+            super(delimiter);
+        }
+    }
 
     protected static Pattern toRegex(String... commands) {
         return Pattern.compile(toRegexPattern(commands));
@@ -102,6 +109,11 @@ public class OracleParser extends Parser {
         super(configuration, parsingContext, 3);
     }
 
+    @Override
+    protected ParserContext createParserContext() {
+        return new OracleParserContext(getDefaultDelimiter());
+    }
+
     @Override
     protected ParsedSqlStatement createStatement(final PeekingReader reader,
         final Recorder recorder,
@@ -150,8 +162,9 @@ public class OracleParser extends Parser {
         if (PLSQL_PACKAGE_BODY_WRAPPED_REGEX.matcher(simplifiedStatement).matches()
             || PLSQL_PACKAGE_DEFINITION_WRAPPED_REGEX.matcher(simplifiedStatement).matches()
             || PLSQL_WRAPPED_REGEX.matcher(simplifiedStatement).matches()) {
-            if (initialWrappedBlockDepth == -1) {
-                initialWrappedBlockDepth = context.getBlockDepth();
+            final OracleParserContext oracleContext = (OracleParserContext) context;
+            if (oracleContext.initialWrappedBlockDepth == -1) {
+                oracleContext.initialWrappedBlockDepth = context.getBlockDepth();
             }
             return PLSQL_WRAPPED_STATEMENT;
         }
@@ -245,9 +258,10 @@ public class OracleParser extends Parser {
             return;
         }
 
+        final OracleParserContext oracleContext = (OracleParserContext) context;
         if (context.getStatementType() == PLSQL_WRAPPED_STATEMENT) {
             // ensure wrapped SQL has an increased block depth so it gets treated as one statement
-            if (context.getBlockDepth() == initialWrappedBlockDepth) {
+            if (context.getBlockDepth() == oracleContext.initialWrappedBlockDepth) {
                 context.increaseBlockDepth("WRAPPED");
             }
             // decrease block depth at the end to step out of a wrapped SQL block
@@ -259,8 +273,9 @@ public class OracleParser extends Parser {
             return;
         } else {
             // decrease block depth when wrapped SQL ends to step out of wrapped SQL block
-            if (context.getBlockDepth() > initialWrappedBlockDepth && context.getBlockInitiator().equals("WRAPPED")) {
-                initialWrappedBlockDepth = -1;
+            if (context.getBlockDepth() > oracleContext.initialWrappedBlockDepth
+                && context.getBlockInitiator().equals("WRAPPED")) {
+                oracleContext.initialWrappedBlockDepth = -1;
                 context.decreaseBlockDepth();
             }
         }
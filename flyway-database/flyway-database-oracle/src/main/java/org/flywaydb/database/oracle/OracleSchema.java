@@ -27,6 +27,7 @@ import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.util.StringUtils;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -932,9 +933,11 @@ public class OracleSchema extends Schema<OracleDatabase, OracleTable> {
         public void dropObjects(final JdbcTemplate jdbcTemplate,
             final OracleDatabase database,
             final OracleSchema schema) throws SQLException {
+            final List<String> dropStatements = new ArrayList<>();
             for (final String objectName : getObjectNames(jdbcTemplate, database, schema)) {
-                jdbcTemplate.execute(generateDropStatement(jdbcTemplate, database, schema, objectName));
+                dropStatements.add(generateDropStatement(jdbcTemplate, database, schema, objectName));
             }
+            schema.executeDropStatements(dropStatements);
         }
 
         private void warnUnsupported(final String schemaName, final String typeDesc) {
@@ -41,7 +41,7 @@ public class CockroachDBTable extends Table<CockroachDBDatabase, CockroachDBSche
         final CockroachDBSchema schema,
         final String name) {
         super(jdbcTemplate, database, schema, name);
-        this.insertRowLock = new InsertRowLock(jdbcTemplate);
+        this.insertRowLock = new InsertRowLock(jdbcTemplate, database.getConfiguration());
     }
 
     @Override
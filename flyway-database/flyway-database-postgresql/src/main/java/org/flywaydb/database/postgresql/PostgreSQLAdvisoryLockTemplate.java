@@ -25,11 +25,14 @@ import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
 import org.flywaydb.core.internal.jdbc.TransactionalExecutionTemplate;
+import org.flywaydb.core.internal.strategy.LockRetryConfigurationExtension;
 import org.flywaydb.core.internal.strategy.RetryStrategy;
 import org.flywaydb.core.internal.util.FlywayDbWebsiteLinks;
 import org.flywaydb.core.internal.util.SqlCallable;
 
+import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -41,6 +44,10 @@ public class PostgreSQLAdvisoryLockTemplate {
         + (0x77 << 16) // w
         + (0x61 << 8) // a
         + 0x79; // y
+    /**
+     * The SQL state raised when lock_timeout expires.
+     */
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
 
     private final Configuration configuration;
     private final JdbcTemplate jdbcTemplate;
@@ -57,14 +64,15 @@ public class PostgreSQLAdvisoryLockTemplate {
     public <T> T execute(final Callable<T> callable) {
         final PostgreSQLConfigurationExtension configurationExtension = configuration.getPluginRegister()
             .getExact(PostgreSQLConfigurationExtension.class);
+        final boolean blocking = configurationExtension.isBlockingLockEnabled();
 
         if (configurationExtension.isTransactionalLock()) {
             return new TransactionalExecutionTemplate(jdbcTemplate.getConnection(),
-                true).execute(() -> execute(callable, this::tryLockTransactional));
+                true).execute(() -> execute(callable, true, blocking));
         } else {
             RuntimeException rethrow = null;
             try {
-                return execute(callable, this::tryLock);
+                return execute(callable, false, blocking);
             } catch (RuntimeException e) {
                 rethrow = e;
                 throw rethrow;
@@ -74,9 +82,11 @@ public class PostgreSQLAdvisoryLockTemplate {
         }
     }
 
-    private <T> T execute(final Callable<T> callable, final SqlCallable<Boolean> tryLock) {
+    private <T> T execute(final Callable<T> callable, final boolean transactional, final boolean blocking) {
         try {
-            lock(tryLock);
+            if (!blocking || !blockingLock(transactional)) {
+                lock(transactional ? this::tryLockTransactional : this::tryLock);
+            }
             return callable.call();
         } catch (SQLException e) {
             throw new FlywaySqlException("Unable to acquire PostgreSQL advisory lock", e);
@@ -89,7 +99,7 @@ public class PostgreSQLAdvisoryLockTemplate {
     }
 
     private void lock(final SqlCallable<Boolean> tryLock) throws SQLException {
-        final RetryStrategy strategy = new RetryStrategy();
+        final RetryStrategy strategy = RetryStrategy.forLocking(configuration);
         strategy.doWithRetries(tryLock,
             "Interrupted while attempting to acquire PostgreSQL advisory lock",
             "Number of retries exceeded while attempting to acquire PostgreSQL advisory lock. "
@@ -97,6 +107,66 @@ public class PostgreSQLAdvisoryLockTemplate {
                 + FlywayDbWebsiteLinks.LOCK_RETRY_COUNT);
     }
 
+    /**
+     * Waits for the lock on the server, bounded by {@code lock_timeout}, so that it is acquired as soon as the current
+     * holder releases it.
+     *
+     * @return {@code false} if blocking isn't permitted on this connection, in which case polling should be used.
+     */
+    private boolean blockingLock(final boolean transactional) throws SQLException {
+        final Connection connection = jdbcTemplate.getConnection();
+        // A failed statement aborts the transaction, so a savepoint is needed to be able to fall back to polling
+        final Savepoint savepoint = transactional ? connection.setSavepoint() : null;
+        final String lockFunction = transactional ? "pg_advisory_xact_lock" : "pg_advisory_lock";
+        String previousLockTimeout = null;
+        try {
+            previousLockTimeout = jdbcTemplate.queryForString("SELECT current_setting('lock_timeout')");
+            jdbcTemplate.queryForString("SELECT set_config('lock_timeout', ?, false)", getBlockingLockTimeout());
+            jdbcTemplate.queryForString("SELECT " + lockFunction + "(" + lockNum + ")");
+        } catch (final SQLException e) {
+            if (savepoint != null) {
+                // Also reverts lock_timeout
+                connection.rollback(savepoint);
+            } else if (previousLockTimeout != null) {
+                jdbcTemplate.queryForString("SELECT set_config('lock_timeout', ?, false)", previousLockTimeout);
+            }
+
+            if (LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+                throw new FlywayException("Timed out while waiting for PostgreSQL advisory lock. "
+                    + "Configure the time to wait with the 'lockRetryCount' configuration option: "
+                    + FlywayDbWebsiteLinks.LOCK_RETRY_COUNT, e);
+            }
+            LOG.debug("Unable to wait for PostgreSQL advisory lock, falling back to polling: " + e.getMessage());
+            return false;
+        }
+
+        // The lock is held from here on, so falling back to polling would take it a second time
+        try {
+            jdbcTemplate.queryForString("SELECT set_config('lock_timeout', ?, false)", previousLockTimeout);
+        } catch (final SQLException e) {
+            LOG.warn("Unable to restore lock_timeout after acquiring PostgreSQL advisory lock: " + e.getMessage());
+        } finally {
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The lock_timeout equivalent to the configured retries, or 0 to wait indefinitely.
+     */
+    private String getBlockingLockTimeout() {
+        final int lockRetryCount = configuration.getLockRetryCount();
+        if (lockRetryCount < 0) {
+            return "0";
+        }
+        final long maxWait = configuration.getPluginRegister()
+            .getExact(LockRetryConfigurationExtension.class)
+            .getMaxWaitMillis();
+        return Math.max(1, lockRetryCount) * maxWait + "ms";
+    }
+
     private boolean tryLockTransactional() throws SQLException {
         final List<Boolean> results = jdbcTemplate.query("SELECT pg_try_advisory_xact_lock(" + lockNum + ")",
             rs -> rs.getBoolean("pg_try_advisory_xact_lock"));
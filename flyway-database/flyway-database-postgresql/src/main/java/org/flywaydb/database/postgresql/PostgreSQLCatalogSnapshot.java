@@ -0,0 +1,213 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.postgresql;
+
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The droppable objects of a PostgreSQL schema, retrieved with a single catalog query instead of a query per kind of
+ * object, so that cleaning a schema doesn't cost a round trip for each of them.
+ */
+final class PostgreSQLCatalogSnapshot {
+    private static final String MATERIALIZED_VIEW = "m";
+    private static final String VIEW = "v";
+    private static final String TABLE = "r";
+    private static final String BASE_TYPE = "t";
+    private static final String ROUTINE = "f";
+    private static final String ENUM = "e";
+    private static final String DOMAIN = "d";
+    private static final String SEQUENCE = "s";
+    private static final String COLLATION = "c";
+    private static final String EXTENSION = "x";
+    private static final String EXTENSIONS_TABLE = "X";
+
+    /**
+     * An object in the schema.
+     *
+     * @param kind   The kind of object.
+     * @param name   The name of the object.
+     * @param args   The argument types of a routine.
+     * @param detail The kind of a routine (FUNCTION, AGGREGATE or PROCEDURE) or the category of a type.
+     */
+    record CatalogObject(String kind, String name, String args, String detail) {}
+
+    private final Map<String, List<CatalogObject>> objectsByKind = new HashMap<>();
+
+    private PostgreSQLCatalogSnapshot() {}
+
+    /**
+     * Retrieves the droppable objects of this schema.
+     *
+     * @param jdbcTemplate      The Jdbc Template for communicating with the DB.
+     * @param database          The database-specific support.
+     * @param schema            The name of the schema.
+     * @param includeCollations Whether to retrieve the collations as well.
+     * @throws SQLException when the objects could not be retrieved.
+     */
+    static PostgreSQLCatalogSnapshot take(final JdbcTemplate jdbcTemplate,
+        final PostgreSQLDatabase database,
+        final String schema,
+        final boolean includeCollations) throws SQLException {
+        // #2193: PostgreSQL 11 removed the 'proisagg' column and replaced it with 'prokind'.
+        final String isAggregate = database.getVersion().isAtLeast("11") ? "pg_proc.prokind = 'a'" : "pg_proc.proisagg";
+        // PROCEDURE is only available from PostgreSQL 11
+        final String isProcedure = database.getVersion().isAtLeast("11") ? "pg_proc.prokind = 'p'" : "FALSE";
+
+        final List<String> queries = new ArrayList<>();
+        if (database.getVersion().isAtLeast("9.3")) {
+            queries.add("SELECT '" + MATERIALIZED_VIEW + "' AS kind, c.relname::text AS name, NULL::text AS args,"
+                + " NULL::text AS detail"
+                + " FROM pg_catalog.pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
+                + " WHERE c.relkind = 'm' AND n.nspname = ?");
+        }
+        queries.add("SELECT '" + VIEW + "' AS kind, c.relname::text AS name, NULL::text AS args, NULL::text AS detail"
+            + " FROM pg_catalog.pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
+            // that don't depend on an extension
+            + " LEFT JOIN pg_depend dep ON dep.objid = c.oid AND dep.deptype = 'e'"
+            + " WHERE c.relkind = 'v' AND n.nspname = ? AND dep.objid IS NULL");
+        queries.add("SELECT '" + TABLE + "' AS kind, t.table_name::text AS name, NULL::text AS args,"
+            + " NULL::text AS detail"
+            + " FROM information_schema.tables t"
+            // that don't depend on an extension
+            + " LEFT JOIN pg_depend dep ON dep.objid = (quote_ident(t.table_schema)||'.'||quote_ident(t.table_name))::regclass::oid AND dep.deptype = 'e'"
+            + " WHERE table_schema = ?"
+            // that are real tables (as opposed to views)
+            + " AND table_type = 'BASE TABLE'"
+            + " AND dep.objid IS NULL"
+            // and are not child tables, as these are dropped with the parent table when using cascade
+            + " AND NOT (SELECT EXISTS (SELECT inhrelid FROM pg_catalog.pg_inherits"
+            + " WHERE inhrelid = (quote_ident(t.table_schema)||'.'||quote_ident(t.table_name))::regclass::oid))");
+        queries.add("SELECT '" + BASE_TYPE + "' AS kind, t.typname::text AS name, NULL::text AS args,"
+            + " t.typcategory::text AS detail"
+            + " FROM pg_catalog.pg_type t"
+            + " LEFT JOIN pg_depend dep ON dep.objid = t.oid AND dep.deptype = 'e'"
+            + " WHERE (t.typrelid = 0 OR (SELECT c.relkind = 'c' FROM pg_catalog.pg_class c WHERE c.oid = t.typrelid))"
+            + " AND NOT EXISTS(SELECT 1 FROM pg_catalog.pg_type el WHERE el.oid = t.typelem AND el.typarray = t.oid)"
+            + " AND t.typnamespace IN (SELECT oid FROM pg_catalog.pg_namespace WHERE nspname = ?)"
+            + " AND dep.objid IS NULL"
+            + " AND t.typtype != 'd'");
+        queries.add("SELECT '" + ROUTINE + "' AS kind, proname::text AS name,"
+            + " oidvectortypes(proargtypes)::text AS args,"
+            + " CASE WHEN " + isAggregate + " THEN 'AGGREGATE'"
+            + " WHEN " + isProcedure + " THEN 'PROCEDURE'"
+            + " ELSE 'FUNCTION' END AS detail"
+            + " FROM pg_proc INNER JOIN pg_namespace ns ON (pg_proc.pronamespace = ns.oid)"
+            // that don't depend on an extension
+            + " LEFT JOIN pg_depend dep ON dep.objid = pg_proc.oid AND dep.deptype = 'e'"
+            + " WHERE ns.nspname = ? AND dep.objid IS NULL");
+        queries.add("SELECT '" + ENUM + "' AS kind, t.typname::text AS name, NULL::text AS args, NULL::text AS detail"
+            + " FROM pg_catalog.pg_type t INNER JOIN pg_catalog.pg_namespace n ON n.oid = t.typnamespace"
+            + " WHERE n.nspname = ? AND t.typtype = 'e'");
+        queries.add("SELECT '" + DOMAIN + "' AS kind, t.typname::text AS name, NULL::text AS args, NULL::text AS detail"
+            + " FROM pg_catalog.pg_type t"
+            + " LEFT JOIN pg_catalog.pg_namespace n ON n.oid = t.typnamespace"
+            + " LEFT JOIN pg_depend dep ON dep.objid = t.oid AND dep.deptype = 'e'"
+            + " WHERE t.typtype = 'd' AND n.nspname = ? AND dep.objid IS NULL");
+        queries.add("SELECT '" + SEQUENCE + "' AS kind, sequence_name::text AS name, NULL::text AS args,"
+            + " NULL::text AS detail"
+            + " FROM information_schema.sequences WHERE sequence_schema = ?");
+        if (includeCollations) {
+            queries.add("SELECT '" + COLLATION + "' AS kind, c.collname::text AS name, NULL::text AS args,"
+                + " NULL::text AS detail"
+                + " FROM pg_catalog.pg_collation c JOIN pg_namespace n ON c.collnamespace = n.oid"
+                // that don't depend on an extension
+                + " LEFT JOIN pg_depend dep ON dep.objid = c.oid AND dep.deptype = 'e'"
+                + " WHERE n.nspname = ? AND dep.objid IS NULL");
+        }
+        // pg_extension can't be referenced in the query above, as it doesn't exist in all versions
+        queries.add("SELECT '" + EXTENSIONS_TABLE + "' AS kind, NULL::text AS name, NULL::text AS args,"
+            + " (SELECT EXISTS (SELECT 1 FROM pg_tables WHERE tablename = 'pg_extension'))::text AS detail");
+
+        final Object[] params = Collections.nCopies(queries.size() - 1, schema).toArray();
+        final PostgreSQLCatalogSnapshot snapshot = new PostgreSQLCatalogSnapshot();
+        final List<CatalogObject> objects = jdbcTemplate.query(String.join("\nUNION ALL\n", queries),
+            rs -> new CatalogObject(rs.getString("kind"),
+                rs.getString("name"),
+                rs.getString("args"),
+                rs.getString("detail")),
+            params);
+        for (final CatalogObject object : objects) {
+            snapshot.get(object.kind()).add(object);
+        }
+
+        final List<CatalogObject> extensionsTable = snapshot.get(EXTENSIONS_TABLE);
+        if (!extensionsTable.isEmpty() && "true".equals(extensionsTable.get(0).detail())) {
+            for (final String extensionName : jdbcTemplate.queryForStringList("SELECT e.extname "
+                + "FROM pg_extension e "
+                + "LEFT JOIN pg_namespace n ON n.oid = e.extnamespace "
+                + "LEFT JOIN pg_roles r ON r.oid = e.extowner "
+                + "WHERE n.nspname=? AND r.rolname=current_user", schema)) {
+                snapshot.get(EXTENSION).add(new CatalogObject(EXTENSION, extensionName, null, null));
+            }
+        }
+        return snapshot;
+    }
+
+    private List<CatalogObject> get(final String kind) {
+        return objectsByKind.computeIfAbsent(kind, k -> new ArrayList<>());
+    }
+
+    List<CatalogObject> getMaterializedViews() {
+        return get(MATERIALIZED_VIEW);
+    }
+
+    List<CatalogObject> getViews() {
+        return get(VIEW);
+    }
+
+    List<CatalogObject> getTables() {
+        return get(TABLE);
+    }
+
+    List<CatalogObject> getBaseTypes() {
+        return get(BASE_TYPE);
+    }
+
+    List<CatalogObject> getRoutines() {
+        return get(ROUTINE);
+    }
+
+    List<CatalogObject> getEnums() {
+        return get(ENUM);
+    }
+
+    List<CatalogObject> getDomains() {
+        return get(DOMAIN);
+    }
+
+    List<CatalogObject> getSequences() {
+        return get(SEQUENCE);
+    }
+
+    List<CatalogObject> getCollations() {
+        return get(COLLATION);
+    }
+
+    List<CatalogObject> getExtensions() {
+        return get(EXTENSION);
+    }
+}
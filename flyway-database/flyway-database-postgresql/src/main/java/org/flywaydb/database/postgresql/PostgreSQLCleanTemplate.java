@@ -0,0 +1,186 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.postgresql;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.command.clean.CleanTemplate;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.jdbc.DriverDataSource;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.JdbcUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL implementation of CleanTemplate. The template is a database on the same server, copied from the database
+ * with CREATE DATABASE ... TEMPLATE. As a database can't be dropped or copied by a connection to it, this works on a
+ * connection to the postgres maintenance database instead.
+ */
+public class PostgreSQLCleanTemplate implements CleanTemplate {
+    private static final Pattern URL_DATABASE = Pattern.compile("^(jdbc:(?:p6spy:)?postgresql://[^/?]*)/[^?]*");
+    private static final String MAINTENANCE_DATABASE = "postgres";
+    private static final String TEMPLATE_INFIX = "_flyway_";
+    private static final String RESTORE_SUFFIX = "_flyway_restore";
+    /**
+     * PostgreSQL truncates longer identifiers.
+     */
+    private static final int MAX_NAME_LENGTH = 63;
+
+    private final PostgreSQLDatabase database;
+    private final String url;
+    private final String catalog;
+    private final String prefix;
+    private final String name;
+    /**
+     * The database is copied from the template under this name first, so it is only dropped once its copy exists.
+     */
+    private final String restoreName;
+
+    /**
+     * @param database The database to create the template of.
+     * @param url      The JDBC URL of the database.
+     * @param catalog  The name of the database.
+     * @param key      Identifies the migrations the template is created by.
+     */
+    PostgreSQLCleanTemplate(final PostgreSQLDatabase database,
+        final String url,
+        final String catalog,
+        final String key) {
+        this.database = database;
+        this.url = url;
+        this.catalog = catalog;
+        final int maxCatalogLength = MAX_NAME_LENGTH - TEMPLATE_INFIX.length() - key.length();
+        this.prefix = (catalog.length() > maxCatalogLength ? catalog.substring(0, maxCatalogLength) : catalog)
+            + TEMPLATE_INFIX;
+        this.name = prefix + key;
+        final int maxRestoreCatalogLength = MAX_NAME_LENGTH - RESTORE_SUFFIX.length();
+        this.restoreName = (catalog.length() > maxRestoreCatalogLength
+            ? catalog.substring(0, maxRestoreCatalogLength)
+            : catalog) + RESTORE_SUFFIX;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean exists() {
+        return execute(this::templateExists, "Unable to check for clean template " + name);
+    }
+
+    @Override
+    public void restore() {
+        execute(jdbcTemplate -> {
+            final String owner = jdbcTemplate.queryForString(
+                "SELECT pg_get_userbyid(datdba) FROM pg_database WHERE datname = ?",
+                catalog);
+            // Left behind if an earlier restore failed after copying the template
+            jdbcTemplate.execute("DROP DATABASE IF EXISTS " + database.quote(restoreName));
+            jdbcTemplate.execute("CREATE DATABASE "
+                + database.quote(restoreName)
+                + " TEMPLATE "
+                + database.quote(name)
+                + " OWNER "
+                + database.quote(owner));
+
+            try {
+                dropDatabase(jdbcTemplate);
+            } catch (final SQLException e) {
+                jdbcTemplate.execute("DROP DATABASE IF EXISTS " + database.quote(restoreName));
+                throw e;
+            }
+            jdbcTemplate.execute("ALTER DATABASE "
+                + database.quote(restoreName)
+                + " RENAME TO "
+                + database.quote(catalog));
+            return null;
+        }, "Unable to restore database " + catalog + " from clean template " + name);
+    }
+
+    /**
+     * Drops the database, disconnecting all other sessions from it first.
+     */
+    private void dropDatabase(final JdbcTemplate jdbcTemplate) throws SQLException {
+        if (database.getVersion().isAtLeast("13")) {
+            // Disconnects the other sessions and drops the database without giving them a chance to reconnect
+            jdbcTemplate.execute("DROP DATABASE " + database.quote(catalog) + " WITH (FORCE)");
+            return;
+        }
+
+        jdbcTemplate.queryForStringList("SELECT pg_terminate_backend(pid)::text FROM pg_stat_activity"
+            + " WHERE datname = ? AND pid <> pg_backend_pid()", catalog);
+        jdbcTemplate.execute("DROP DATABASE " + database.quote(catalog));
+    }
+
+    @Override
+    public void save() {
+        execute(jdbcTemplate -> {
+            // Templates of earlier migrations won't be used anymore
+            for (final String template : jdbcTemplate.queryForStringList(
+                "SELECT datname FROM pg_database WHERE left(datname, " + prefix.length() + ") = ? AND datname <> ?",
+                prefix,
+                name)) {
+                jdbcTemplate.execute("DROP DATABASE " + database.quote(template));
+            }
+            if (!templateExists(jdbcTemplate)) {
+                jdbcTemplate.execute("CREATE DATABASE "
+                    + database.quote(name)
+                    + " TEMPLATE "
+                    + database.quote(catalog));
+            }
+            return null;
+        }, "Unable to create clean template " + name);
+    }
+
+    private boolean templateExists(final JdbcTemplate jdbcTemplate) throws SQLException {
+        return jdbcTemplate.queryForInt("SELECT COUNT(*) FROM pg_database WHERE datname = ?", name) > 0;
+    }
+
+    private <T> T execute(final MaintenanceCallback<T> callback, final String errorMessage) {
+        final Matcher matcher = URL_DATABASE.matcher(url);
+        if (!matcher.find()) {
+            throw new FlywayException(errorMessage + ": unable to determine the URL of the maintenance database");
+        }
+
+        final Configuration configuration = database.getConfiguration();
+        final Connection connection = JdbcUtils.openConnection(new DriverDataSource(configuration.getClassLoader(),
+            null,
+            matcher.group(1) + "/" + MAINTENANCE_DATABASE + url.substring(matcher.end()),
+            configuration.getUser(),
+            configuration.getPassword(),
+            configuration), configuration.getConnectRetries(), configuration.getConnectRetriesInterval());
+        try {
+            return callback.execute(new JdbcTemplate(connection, database.getDatabaseType()));
+        } catch (final SQLException e) {
+            throw new FlywaySqlException(errorMessage, e);
+        } finally {
+            JdbcUtils.closeConnection(connection);
+        }
+    }
+
+    private interface MaintenanceCallback<T> {
+        T execute(JdbcTemplate jdbcTemplate) throws SQLException;
+    }
+}
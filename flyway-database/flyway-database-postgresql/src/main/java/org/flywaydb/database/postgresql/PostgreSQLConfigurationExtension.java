@@ -19,14 +19,23 @@
  */
 package org.flywaydb.database.postgresql;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
 import org.flywaydb.core.extensibility.ConfigurationExtension;
+import org.flywaydb.core.internal.command.clean.CleanModel;
 
 @Data
 public class PostgreSQLConfigurationExtension implements ConfigurationExtension {
     private static final String TRANSACTIONAL_LOCK = "flyway.postgresql.transactional.lock";
+    private static final String BLOCKING_LOCK = "flyway.postgresql.blockingLock";
+    private static final String CLEAN_MODE = "flyway.postgresql.clean.mode";
 
     private TransactionalModel transactional = null;
+    /**
+     * Whether to wait for the advisory lock on the server rather than by polling. Nullable for merge reasons.
+     */
+    private Boolean blockingLock = null;
+    private CleanModel clean = null;
 
     public boolean isTransactionalLock() {
         // null is default, default is true, done this way for merge reasons.
@@ -38,11 +47,22 @@ public class PostgreSQLConfigurationExtension implements ConfigurationExtension
         transactional.setLock(transactionalLock);
     }
 
+    @JsonIgnore
+    public boolean isBlockingLockEnabled() {
+        return blockingLock != null && blockingLock;
+    }
+
     @Override
     public String getConfigurationParameterFromEnvironmentVariable(final String environmentVariable) {
         if ("FLYWAY_POSTGRESQL_TRANSACTIONAL_LOCK".equals(environmentVariable)) {
             return TRANSACTIONAL_LOCK;
         }
+        if ("FLYWAY_POSTGRESQL_BLOCKING_LOCK".equals(environmentVariable)) {
+            return BLOCKING_LOCK;
+        }
+        if ("FLYWAY_POSTGRESQL_CLEAN_MODE".equals(environmentVariable)) {
+            return CLEAN_MODE;
+        }
         return null;
     }
 
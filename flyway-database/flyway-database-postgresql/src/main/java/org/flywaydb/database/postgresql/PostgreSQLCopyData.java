@@ -0,0 +1,121 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-database-postgresql
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.postgresql;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.Writer;
+import java.lang.ref.Cleaner;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.flywaydb.core.internal.parser.PeekingReader;
+
+/**
+ * The data of a COPY FROM STDIN statement. Small payloads are kept in memory; larger ones are written to a temporary
+ * file while they are parsed, so that memory use doesn't grow with the size of the payload.
+ */
+public class PostgreSQLCopyData {
+    /**
+     * The number of characters as of which the data is moved to a temporary file.
+     */
+    private static final int SPILL_THRESHOLD = 1024 * 1024;
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final String data;
+    private final Path file;
+
+    /**
+     * Creates copy data held in memory.
+     */
+    public PostgreSQLCopyData(final String data) {
+        this.data = data;
+        this.file = null;
+    }
+
+    private PostgreSQLCopyData(final Path file) {
+        this.data = null;
+        this.file = file;
+        // The statement may be executed more than once (e.g. in callbacks), so the file lives as long as it does
+        CLEANER.register(this, deleter(file));
+    }
+
+    /**
+     * Reads the data following a COPY FROM STDIN statement, up to and excluding the terminating {@code \.} line.
+     */
+    static PostgreSQLCopyData read(final PeekingReader reader) throws IOException {
+        final StringBuilder buffer = new StringBuilder();
+        Path file = null;
+        Writer writer = null;
+        try {
+            while (true) {
+                final String line = reader.readUntilIncluding('\n');
+                if (line.isEmpty() || "\\.".equals(line.trim())) {
+                    break;
+                }
+
+                if (writer != null) {
+                    writer.write(line);
+                    continue;
+                }
+                buffer.append(line);
+                if (buffer.length() > SPILL_THRESHOLD) {
+                    file = Files.createTempFile("flyway-copy", ".dat");
+                    file.toFile().deleteOnExit();
+                    writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                    writer.append(buffer);
+                    buffer.setLength(0);
+                }
+            }
+
+            if (writer == null) {
+                return new PostgreSQLCopyData(buffer.toString());
+            }
+            writer.close();
+            return new PostgreSQLCopyData(file);
+        } catch (final IOException | RuntimeException e) {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (final IOException ignored) {
+                }
+                deleter(file).run();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Opens a new reader over the data.
+     */
+    public Reader open() throws IOException {
+        return data != null ? new StringReader(data) : Files.newBufferedReader(file, StandardCharsets.UTF_8);
+    }
+
+    private static Runnable deleter(final Path file) {
+        return () -> {
+            try {
+                Files.deleteIfExists(file);
+            } catch (final IOException ignored) {
+            }
+        };
+    }
+}
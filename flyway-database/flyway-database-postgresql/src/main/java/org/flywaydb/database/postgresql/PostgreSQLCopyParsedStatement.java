@@ -28,8 +28,8 @@ import org.flywaydb.core.internal.sqlscript.Delimiter;
 import org.flywaydb.core.internal.sqlscript.ParsedSqlStatement;
 import org.flywaydb.core.internal.sqlscript.SqlScriptExecutor;
 
+import java.io.IOException;
 import java.io.Reader;
-import java.io.StringReader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -44,8 +44,12 @@ public class PostgreSQLCopyParsedStatement extends ParsedSqlStatement {
      * Delimiter of COPY statements.
      */
     private static final Delimiter COPY_DELIMITER = new Delimiter("\\.", true, null);
+    /**
+     * The number of characters sent to the server at a time.
+     */
+    private static final int COPY_BUFFER_SIZE = 65536;
 
-    private final String copyData;
+    private final PostgreSQLCopyData copyData;
 
     /**
      * Creates a new PostgreSQL COPY ... FROM STDIN statement.
@@ -55,6 +59,17 @@ public class PostgreSQLCopyParsedStatement extends ParsedSqlStatement {
         final int col,
         final String sql,
         final String copyData) {
+        this(pos, line, col, sql, new PostgreSQLCopyData(copyData));
+    }
+
+    /**
+     * Creates a new PostgreSQL COPY ... FROM STDIN statement whose data is streamed to the server when executed.
+     */
+    public PostgreSQLCopyParsedStatement(final int pos,
+        final int line,
+        final int col,
+        final String sql,
+        final PostgreSQLCopyData copyData) {
         super(pos, line, col, sql, COPY_DELIMITER, true, false);
         this.copyData = copyData;
     }
@@ -77,7 +92,7 @@ public class PostgreSQLCopyParsedStatement extends ParsedSqlStatement {
 
             final Class<?> copyManagerClass = classLoader.loadClass("org.postgresql.copy.CopyManager");
             final Constructor<?> copyManagerConstructor = copyManagerClass.getConstructor(baseConnectionClass);
-            copyManagerCopyInMethod = copyManagerClass.getMethod("copyIn", String.class, Reader.class);
+            copyManagerCopyInMethod = copyManagerClass.getMethod("copyIn", String.class, Reader.class, int.class);
 
             copyManager = copyManagerConstructor.newInstance(baseConnection);
         } catch (Exception e) {
@@ -86,12 +101,13 @@ public class PostgreSQLCopyParsedStatement extends ParsedSqlStatement {
 
         final Results results = new Results();
         try {
-            try {
+            try (final Reader copyDataReader = copyData.open()) {
                 final Long updateCount = (Long) copyManagerCopyInMethod.invoke(copyManager,
                     getSql(),
-                    new StringReader(copyData));
+                    copyDataReader,
+                    COPY_BUFFER_SIZE);
                 results.addResult(new Result(updateCount, null, null, getSql()));
-            } catch (IllegalAccessException | InvocationTargetException e) {
+            } catch (IllegalAccessException | InvocationTargetException | IOException e) {
                 throw new SQLException("Unable to execute COPY operation", e);
             }
         } catch (SQLException e) {
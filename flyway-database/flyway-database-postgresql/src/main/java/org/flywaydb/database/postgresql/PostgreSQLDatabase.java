@@ -22,8 +22,12 @@ package org.flywaydb.database.postgresql;
 import static org.flywaydb.core.internal.database.base.DatabaseConstants.DATABASE_HOSTING_AWS_RDS;
 import static org.flywaydb.core.internal.database.base.DatabaseConstants.DATABASE_HOSTING_RDS_URL_IDENTIFIER;
 
+import org.flywaydb.core.api.FlywayException;
 import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.extensibility.Tier;
+import org.flywaydb.core.internal.command.clean.CleanModel;
+import org.flywaydb.core.internal.command.clean.CleanModel.Mode;
+import org.flywaydb.core.internal.command.clean.CleanTemplate;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
@@ -98,6 +102,36 @@ public class PostgreSQLDatabase extends Database<PostgreSQLConnection> {
         return getMainConnection().getJdbcTemplate().queryForString("SELECT current_user");
     }
 
+    @Override
+    public CleanModel getCleanModel() {
+        final CleanModel cleanModel = configuration.getPluginRegister()
+            .getExact(PostgreSQLConfigurationExtension.class)
+            .getClean();
+        if (cleanModel == null) {
+            return new CleanModel();
+        }
+
+        cleanModel.validate();
+        final String mode = cleanModel.getMode();
+        if (mode != null && !Mode.DEFAULT.name().equals(mode) && !Mode.TEMPLATE.name().equals(mode)) {
+            throw new FlywayException("Clean mode "
+                + mode
+                + " is not supported for PostgreSQL. Use DEFAULT or TEMPLATE.");
+        }
+        return cleanModel;
+    }
+
+    @Override
+    public CleanTemplate getCleanTemplate(final String key) {
+        return new PostgreSQLCleanTemplate(this, jdbcConnectionFactory.getJdbcUrl(), getCatalog(), key);
+    }
+
+    @Override
+    protected int getDefaultCleanBatchSize() {
+        // The driver pipelines a batch, executing the statements in order without a round trip for each
+        return 100;
+    }
+
     @Override
     public boolean supportsDdlTransactions() {
         return true;
@@ -104,6 +104,13 @@ public class PostgreSQLDatabaseType extends BaseDatabaseType {
         props.put("applicationName", BaseDatabaseType.APPLICATION_NAME);
     }
 
+    @Override
+    protected int getDefaultBatchMaxStatements(final String jdbcUrl) {
+        // pgjdbc pipelines the statements of a batch without waiting for each reply, so larger batches save round trips
+        // whether or not reWriteBatchedInserts is set (which only applies to prepared statements)
+        return 1000;
+    }
+
 
 
 
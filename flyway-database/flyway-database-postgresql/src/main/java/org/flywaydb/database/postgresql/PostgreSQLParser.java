@@ -53,6 +53,11 @@ public class PostgreSQLParser extends Parser {
         return '$';
     }
 
+    @Override
+    protected int getMaxCoalescedInsertRows() {
+        return Integer.MAX_VALUE;
+    }
+
     @Override
     protected ParsedSqlStatement createStatement(final PeekingReader reader,
         final Recorder recorder,
@@ -74,7 +79,7 @@ public class PostgreSQLParser extends Parser {
                 nonCommentPartLine,
                 nonCommentPartCol,
                 sql.substring(nonCommentPartPos - statementPos),
-                readCopyData(reader, recorder));
+                readCopyData(reader));
         }
         return super.createStatement(reader,
             recorder,
@@ -113,22 +118,12 @@ public class PostgreSQLParser extends Parser {
         }
     }
 
-    private String readCopyData(final PeekingReader reader, final Recorder recorder) throws IOException {
+    private PostgreSQLCopyData readCopyData(final PeekingReader reader) throws IOException {
         // Skip end of current line after ;
         reader.readUntilIncluding('\n');
 
-        recorder.start();
-        boolean done = false;
-        do {
-            final String line = reader.readUntilIncluding('\n');
-            if ("\\.".equals(line.trim())) {
-                done = true;
-            } else {
-                recorder.confirm();
-            }
-        } while (!done);
-
-        return recorder.stop();
+        // The data is deliberately not recorded, as it can be far larger than what is reasonable to hold in memory
+        return PostgreSQLCopyData.read(reader);
     }
 
     @Override
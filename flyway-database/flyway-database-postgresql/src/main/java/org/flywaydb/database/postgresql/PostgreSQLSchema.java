@@ -25,13 +25,14 @@ import org.flywaydb.core.internal.database.base.Schema;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.database.base.Type;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.database.postgresql.PostgreSQLCatalogSnapshot.CatalogObject;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * PostgreSQL implementation of Schema.
@@ -85,288 +86,150 @@ public class PostgreSQLSchema extends Schema<PostgreSQLDatabase, PostgreSQLTable
 
     @Override
     protected void doClean() throws SQLException {
-        if (database.getVersion().isAtLeast("9.3")) {
-            for (final String statement : generateDropStatementsForMaterializedViews()) {
-                jdbcTemplate.execute(statement);
-            }
-        }
-
-        for (final String statement : generateDropStatementsForViews()) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (final Table table : allTables()) {
-            table.drop();
-        }
-
-        for (final String statement : generateDropStatementsForBaseTypes(true)) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (final String statement : generateDropStatementsForRoutines()) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (final String statement : generateDropStatementsForEnums()) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (final String statement : generateDropStatementsForDomains()) {
-            jdbcTemplate.execute(statement);
-        }
-
-        for (final String statement : generateDropStatementsForSequences()) {
-            jdbcTemplate.execute(statement);
+        final boolean cleanCollations = Objects.equals(LicenseGuard.getTierAsString(database.getConfiguration()),
+            "OSS");
+        final PostgreSQLCatalogSnapshot snapshot = PostgreSQLCatalogSnapshot.take(jdbcTemplate,
+            database,
+            name,
+            cleanCollations);
+
+        executeDropStatements(generateDropStatements("MATERIALIZED VIEW", snapshot.getMaterializedViews()));
+        executeDropStatements(generateDropStatements("VIEW", snapshot.getViews()));
+
+        for (final CatalogObject table : snapshot.getTables()) {
+            getTable(table.name()).drop();
         }
 
-        for (final String statement : generateDropStatementsForBaseTypes(false)) {
-            jdbcTemplate.execute(statement);
-        }
+        executeDropStatements(generateDropStatementsForBaseTypes(snapshot.getBaseTypes(), true));
+        executeDropStatements(generateDropStatementsForRoutines(snapshot.getRoutines()));
+        executeDropStatements(generateDropStatementsForEnums(snapshot.getEnums(), snapshot.getBaseTypes()));
+        executeDropStatements(generateDropStatements("DOMAIN", snapshot.getDomains()));
+        executeDropStatements(generateDropStatementsForSequences(snapshot.getSequences()));
+        executeDropStatements(generateDropStatementsForRecreatedBaseTypes(snapshot.getBaseTypes()));
 
-        if (Objects.equals(LicenseGuard.getTierAsString(database.getConfiguration()), "OSS")) {
-            for (final String statement : generateDropStatementsForCollations()) {
-                jdbcTemplate.execute(statement);
-            }
+        if (cleanCollations) {
+            executeDropStatements(generateDropStatements("COLLATION", snapshot.getCollations()));
         }
 
-        for (final String statement : generateDropStatementsForExtensions()) {
-            jdbcTemplate.execute(statement);
-        }
+        executeDropStatements(generateDropStatementsForExtensions(snapshot.getExtensions()));
     }
 
     /**
-     * Generates the statements for dropping the extensions in this schema.
+     * Generates the statements for dropping these objects of this type, along with anything depending on them.
      *
      * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> generateDropStatementsForExtensions() throws SQLException {
+    private List<String> generateDropStatements(final String type, final List<CatalogObject> objects) {
         final List<String> statements = new ArrayList<>();
-
-        if (extensionsTableExists()) {
-            final List<String> extensionNames = jdbcTemplate.queryForStringList("SELECT e.extname "
-                + "FROM pg_extension e "
-                + "LEFT JOIN pg_namespace n ON n.oid = e.extnamespace "
-                + "LEFT JOIN pg_roles r ON r.oid = e.extowner "
-                + "WHERE n.nspname=? AND r.rolname=?", name, database.doGetCurrentUser());
-
-            for (final String extensionName : extensionNames) {
-                statements.add("DROP EXTENSION IF EXISTS " + database.quote(extensionName) + " CASCADE");
-            }
+        for (final CatalogObject object : objects) {
+            statements.add("DROP " + type + " IF EXISTS " + database.quote(name, object.name()) + " CASCADE");
         }
-
         return statements;
     }
 
-    private boolean extensionsTableExists() throws SQLException {
-        return jdbcTemplate.queryForBoolean("SELECT EXISTS ( \n"
-            + "SELECT 1 \n"
-            + "FROM pg_tables \n"
-            + "WHERE tablename = 'pg_extension');");
-    }
-
     /**
-     * Generates the statements for dropping the sequences in this schema.
+     * Generates the statements for dropping these extensions.
      *
      * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> generateDropStatementsForSequences() throws SQLException {
-        final List<String> sequenceNames = jdbcTemplate.queryForStringList(
-            "SELECT sequence_name FROM information_schema.sequences WHERE sequence_schema=?",
-            name);
-
+    private List<String> generateDropStatementsForExtensions(final List<CatalogObject> extensions) {
         final List<String> statements = new ArrayList<>();
-        for (final String sequenceName : sequenceNames) {
-            statements.add("DROP SEQUENCE IF EXISTS " + database.quote(name, sequenceName));
+        for (final CatalogObject extension : extensions) {
+            statements.add("DROP EXTENSION IF EXISTS " + database.quote(extension.name()) + " CASCADE");
         }
-
         return statements;
     }
 
     /**
-     * Generates the statements for dropping the types in this schema.
+     * Generates the statements for dropping these sequences. Sequences owned by a table are already gone by the time
+     * these are executed, hence IF EXISTS.
      *
-     * @param recreate Flag indicating whether the types should be recreated. Necessary for type-function chicken and
-     *                 egg problem.
      * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> generateDropStatementsForBaseTypes(final boolean recreate) throws SQLException {
-        final List<Map<String, String>> rows = jdbcTemplate.queryForList(
-            "select typname, typcategory from pg_catalog.pg_type t "
-                + "left join pg_depend dep on dep.objid = t.oid and dep.deptype = 'e' "
-                + "where (t.typrelid = 0 OR (SELECT c.relkind = 'c' FROM pg_catalog.pg_class c WHERE c.oid = t.typrelid)) "
-                + "and NOT EXISTS(SELECT 1 FROM pg_catalog.pg_type el WHERE el.oid = t.typelem AND el.typarray = t.oid) "
-                + "and t.typnamespace in (select oid from pg_catalog.pg_namespace where nspname = ?) "
-                + "and dep.objid is null "
-                + "and t.typtype != 'd'",
-            name);
-
+    private List<String> generateDropStatementsForSequences(final List<CatalogObject> sequences) {
         final List<String> statements = new ArrayList<>();
-        for (final Map<String, String> row : rows) {
-            statements.add("DROP TYPE IF EXISTS " + database.quote(name, row.get("typname")) + " CASCADE");
-        }
-
-        if (recreate) {
-            for (final Map<String, String> row : rows) {
-                // Only recreate Pseudo-types (P) and User-defined types (U)
-                if (Arrays.asList("P", "U").contains(row.get("typcategory"))) {
-                    statements.add("CREATE TYPE " + database.quote(name, row.get("typname")));
-                }
-            }
+        for (final CatalogObject sequence : sequences) {
+            statements.add("DROP SEQUENCE IF EXISTS " + database.quote(name, sequence.name()));
         }
-
         return statements;
     }
 
     /**
-     * Generates the statements for dropping the routines in this schema.
+     * Generates the statements for dropping these types.
      *
+     * @param recreate Flag indicating whether the types should be recreated. Necessary for type-function chicken and
+     *                 egg problem.
      * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> generateDropStatementsForRoutines() throws SQLException {
-        // #2193: PostgreSQL 11 removed the 'proisagg' column and replaced it with 'prokind'.
-        final String isAggregate = database.getVersion().isAtLeast("11") ? "pg_proc.prokind = 'a'" : "pg_proc.proisagg";
-        // PROCEDURE is only available from PostgreSQL 11
-        final String isProcedure = database.getVersion().isAtLeast("11") ? "pg_proc.prokind = 'p'" : "FALSE";
-
-        final List<Map<String, String>> rows = jdbcTemplate.queryForList(
-            // Search for all functions
-            "SELECT proname, oidvectortypes(proargtypes) AS args, "
-                + isAggregate
-                + " as agg, "
-                + isProcedure
-                + " as proc "
-                + "FROM pg_proc INNER JOIN pg_namespace ns ON (pg_proc.pronamespace = ns.oid) "
-                // that don't depend on an extension
-                + "LEFT JOIN pg_depend dep ON dep.objid = pg_proc.oid AND dep.deptype = 'e' "
-                + "WHERE ns.nspname = ? AND dep.objid IS NULL", name);
+    private List<String> generateDropStatementsForBaseTypes(final List<CatalogObject> baseTypes,
+        final boolean recreate) {
+        final List<String> statements = generateDropStatements("TYPE", baseTypes);
 
-        final List<String> statements = new ArrayList<>();
-        for (final Map<String, String> row : rows) {
-            String type = "FUNCTION";
-            if (isTrue(row.get("agg"))) {
-                type = "AGGREGATE";
-            } else if (isTrue(row.get("proc"))) {
-                type = "PROCEDURE";
+        if (recreate) {
+            for (final CatalogObject baseType : baseTypes) {
+                if (isRecreated(baseType)) {
+                    statements.add("CREATE TYPE " + database.quote(name, baseType.name()));
+                }
             }
-            statements.add("DROP " + type + " IF EXISTS " + database.quote(name, row.get("proname")) + "(" + row.get(
-                "args") + ") CASCADE");
-        }
-        return statements;
-    }
-
-    private boolean isTrue(final String agg) {
-        return agg != null && agg.toLowerCase(Locale.ENGLISH).startsWith("t");
-    }
-
-    /**
-     * Generates the statements for dropping the enums in this schema.
-     *
-     * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
-     */
-    private List<String> generateDropStatementsForEnums() throws SQLException {
-        final List<String> enumNames = jdbcTemplate.queryForStringList(
-            "SELECT t.typname FROM pg_catalog.pg_type t INNER JOIN pg_catalog.pg_namespace n ON n.oid = t.typnamespace WHERE n.nspname = ? and t.typtype = 'e'",
-            name);
-
-        final List<String> statements = new ArrayList<>();
-        for (final String enumName : enumNames) {
-            statements.add("DROP TYPE " + database.quote(name, enumName));
         }
 
         return statements;
     }
 
     /**
-     * Generates the statements for dropping the domains in this schema.
+     * Generates the statements for dropping the types recreated when first dropping these types, now that the
+     * functions depending on them are gone.
      *
      * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> generateDropStatementsForDomains() throws SQLException {
-        final List<String> domainNames = jdbcTemplate.queryForStringList("SELECT t.typname as domain_name\n"
-            + "FROM pg_catalog.pg_type t\n"
-            + "       LEFT JOIN pg_catalog.pg_namespace n ON n.oid = t.typnamespace\n"
-            + "       LEFT JOIN pg_depend dep ON dep.objid = t.oid AND dep.deptype = 'e'\n"
-            + "WHERE t.typtype = 'd'\n"
-            + "  AND n.nspname = ?\n"
-            + "  AND dep.objid IS NULL", name);
-
-        final List<String> statements = new ArrayList<>();
-        for (final String domainName : domainNames) {
-            statements.add("DROP DOMAIN IF EXISTS " + database.quote(name, domainName) + " CASCADE");
+    private List<String> generateDropStatementsForRecreatedBaseTypes(final List<CatalogObject> baseTypes) {
+        final List<CatalogObject> recreated = new ArrayList<>();
+        for (final CatalogObject baseType : baseTypes) {
+            if (isRecreated(baseType)) {
+                recreated.add(baseType);
+            }
         }
-
-        return statements;
+        return generateDropStatementsForBaseTypes(recreated, false);
     }
 
-    /**
-     * Generates the statements for dropping the materialized views in this schema.
-     *
-     * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
-     */
-    private List<String> generateDropStatementsForMaterializedViews() throws SQLException {
-        final List<String> viewNames = jdbcTemplate.queryForStringList(
-            "SELECT relname FROM pg_catalog.pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
-                + " WHERE c.relkind = 'm' AND n.nspname = ?",
-            name);
-
-        final List<String> statements = new ArrayList<>();
-        for (final String domainName : viewNames) {
-            statements.add("DROP MATERIALIZED VIEW IF EXISTS " + database.quote(name, domainName) + " CASCADE");
-        }
-
-        return statements;
+    private boolean isRecreated(final CatalogObject baseType) {
+        // Only recreate Pseudo-types (P) and User-defined types (U)
+        return Arrays.asList("P", "U").contains(baseType.detail());
     }
 
     /**
-     * Generates the statements for dropping the views in this schema.
+     * Generates the statements for dropping these routines.
      *
      * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> generateDropStatementsForViews() throws SQLException {
-        final List<String> viewNames = jdbcTemplate.queryForStringList(
-            // Search for all views
-            "SELECT relname FROM pg_catalog.pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace"
-                +
-                // that don't depend on an extension
-                " LEFT JOIN pg_depend dep ON dep.objid = c.oid AND dep.deptype = 'e'"
-                + " WHERE c.relkind = 'v' AND  n.nspname = ? AND dep.objid IS NULL", name);
+    private List<String> generateDropStatementsForRoutines(final List<CatalogObject> routines) {
         final List<String> statements = new ArrayList<>();
-        for (final String domainName : viewNames) {
-            statements.add("DROP VIEW IF EXISTS " + database.quote(name, domainName) + " CASCADE");
+        for (final CatalogObject routine : routines) {
+            statements.add("DROP " + routine.detail() + " IF EXISTS " + database.quote(name, routine.name()) + "("
+                + routine.args() + ") CASCADE");
         }
-
         return statements;
     }
 
     /**
-     * Generates the statements for dropping the collations in this schema.
+     * Generates the statements for dropping these enums. Enums are base types as well, so only those that weren't
+     * dropped along with the base types are left.
      *
      * @return The drop statements.
-     * @throws SQLException when the clean statements could not be generated.
      */
-    private List<String> generateDropStatementsForCollations() throws SQLException {
-        final List<String> collationNames = jdbcTemplate.queryForStringList(
-            // Search for all collations in current schema
-            "SELECT c.collname FROM pg_catalog.pg_collation c "
-                +
-                // that don't depend on an extension
-                "JOIN pg_namespace n ON c.collnamespace = n.oid "
-                + "LEFT JOIN pg_depend dep ON dep.objid = c.oid AND dep.deptype = 'e' "
-                + "WHERE n.nspname = ? AND dep.objid IS NULL", name);
+    private List<String> generateDropStatementsForEnums(final List<CatalogObject> enums,
+        final List<CatalogObject> baseTypes) {
+        final Set<String> baseTypeNames = new HashSet<>();
+        for (final CatalogObject baseType : baseTypes) {
+            baseTypeNames.add(baseType.name());
+        }
 
         final List<String> statements = new ArrayList<>();
-        for (final String collationName : collationNames) {
-            statements.add("DROP COLLATION IF EXISTS " + database.quote(name, collationName) + " CASCADE");
+        for (final CatalogObject enumType : enums) {
+            if (!baseTypeNames.contains(enumType.name())) {
+                statements.add("DROP TYPE " + database.quote(name, enumType.name()));
+            }
         }
-
         return statements;
     }
 
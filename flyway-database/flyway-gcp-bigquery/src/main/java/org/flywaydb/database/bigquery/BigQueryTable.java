@@ -33,7 +33,7 @@ public class BigQueryTable extends Table<BigQueryDatabase, BigQuerySchema> {
         final BigQuerySchema schema,
         final String name) {
         super(jdbcTemplate, database, schema, name);
-        this.insertRowLock = new InsertRowLock(jdbcTemplate);
+        this.insertRowLock = new InsertRowLock(jdbcTemplate, database.getConfiguration());
     }
 
     @Override
@@ -27,6 +27,7 @@ import org.flywaydb.core.internal.parser.ParsingContext;
 import org.flywaydb.core.internal.parser.PeekingReader;
 import org.flywaydb.core.internal.parser.Token;
 import org.flywaydb.core.internal.parser.TokenType;
+import org.flywaydb.core.internal.sqlscript.Delimiter;
 
 import java.io.IOException;
 import java.util.List;
@@ -34,12 +35,23 @@ import java.util.List;
 @CustomLog
 public class SpannerParser extends Parser {
 
-    private boolean previousStatementStartedBatch = false;
+    private static class SpannerParserContext extends ParserContext {
+        private boolean previousStatementStartedBatch = false;
+
+        private SpannerParserContext(final Delimiter delimiter) {
+            super(delimiter);
+        }
+    }
 
     public SpannerParser(final Configuration configuration, final ParsingContext parsingContext) {
         super(configuration, parsingContext, 3);
     }
 
+    @Override
+    protected ParserContext createParserContext() {
+        return new SpannerParserContext(getDefaultDelimiter());
+    }
+
     @Override
     protected char getIdentifierQuote() {
         return '`';
@@ -58,7 +70,7 @@ public class SpannerParser extends Parser {
 
     @Override
     protected boolean shouldAdjustBlockDepth(final ParserContext context, final List<Token> tokens, final Token token) {
-        return previousStatementStartedBatch
+        return ((SpannerParserContext) context).previousStatementStartedBatch
             || super.shouldAdjustBlockDepth(context, tokens, token)
             || token.getType() == TokenType.DELIMITER;
     }
@@ -69,12 +81,13 @@ public class SpannerParser extends Parser {
         final Token keyword,
         final PeekingReader reader) throws IOException {
         final String keywordText = keyword.getText();
-        if (previousStatementStartedBatch) {
+        final SpannerParserContext spannerContext = (SpannerParserContext) context;
+        if (spannerContext.previousStatementStartedBatch) {
             context.increaseBlockDepth("");
-            previousStatementStartedBatch = false;
+            spannerContext.previousStatementStartedBatch = false;
         }
         if (tokens.stream().anyMatch(t -> "START".equals(t.getText())) && keyword.getType() == TokenType.DELIMITER) {
-            previousStatementStartedBatch = true;
+            spannerContext.previousStatementStartedBatch = true;
         }
         if ("RUN".equals(keywordText) && context.getBlockDepth() > 0) {
             context.decreaseBlockDepth();
@@ -37,7 +37,7 @@ public class SpannerTable extends Table<SpannerDatabase, SpannerSchema> {
         final SpannerSchema schema,
         final String name) {
         super(jdbcTemplate, database, schema, name);
-        this.insertRowLock = new InsertRowLock(jdbcTemplate);
+        this.insertRowLock = new InsertRowLock(jdbcTemplate, database.getConfiguration());
     }
 
     @Override
@@ -163,7 +163,9 @@ public class MySQLConnection extends Connection<MySQLDatabase> {
     @Override
     public <T> T lock(final Table table, final Callable<T> callable) {
         if (canUseNamedLockTemplate()) {
-            return new MySQLNamedLockTemplate(jdbcTemplate, table.toString().hashCode()).execute(callable);
+            return new MySQLNamedLockTemplate(jdbcTemplate,
+                database.getConfiguration(),
+                table.toString().hashCode()).execute(callable);
         }
         return super.lock(table, callable);
     }
@@ -23,6 +23,7 @@ import static org.flywaydb.core.internal.util.UrlUtils.isAwsWrapperUrl;
 import static org.flywaydb.core.internal.util.UrlUtils.isSecretManagerUrl;
 
 import java.util.List;
+import java.util.Locale;
 import lombok.CustomLog;
 import org.flywaydb.core.api.ResourceProvider;
 import org.flywaydb.core.api.configuration.Configuration;
@@ -132,6 +133,15 @@ public class MySQLDatabaseType extends BaseDatabaseType {
         props.put("connectionAttributes", "program_name:" + APPLICATION_NAME);
     }
 
+    @Override
+    protected int getDefaultBatchMaxStatements(final String jdbcUrl) {
+        // With rewriteBatchedStatements the driver sends a whole batch as a single multi-statement packet
+        if (jdbcUrl != null && jdbcUrl.toLowerCase(Locale.ENGLISH).contains("rewritebatchedstatements=true")) {
+            return 1000;
+        }
+        return super.getDefaultBatchMaxStatements(jdbcUrl);
+    }
+
 
 
 
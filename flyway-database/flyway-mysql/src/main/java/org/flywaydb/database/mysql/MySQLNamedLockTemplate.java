@@ -21,8 +21,11 @@ package org.flywaydb.database.mysql;
 
 import lombok.CustomLog;
 import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.internal.exception.FlywaySqlException;
 import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.strategy.BackoffStrategy;
+import org.flywaydb.core.internal.strategy.LockRetryConfigurationExtension;
 
 import java.sql.SQLException;
 import java.util.concurrent.Callable;
@@ -32,21 +35,30 @@ import java.util.concurrent.Callable;
  */
 @CustomLog
 public class MySQLNamedLockTemplate {
+    /**
+     * The wait before the first retry. Named locks are usually only held briefly.
+     */
+    private static final int INITIAL_WAIT_MILLIS = 100;
+
     /**
      * The connection for the named lock.
      */
     private final JdbcTemplate jdbcTemplate;
 
+    private final Configuration configuration;
+
     private final String lockName;
 
     /**
      * Creates a new named lock template for this connection.
      *
      * @param jdbcTemplate  The jdbcTemplate for the connection.
+     * @param configuration The configuration, which determines the waits between attempts to acquire the lock.
      * @param discriminator A number to discriminate between locks.
      */
-    MySQLNamedLockTemplate(final JdbcTemplate jdbcTemplate, final int discriminator) {
+    MySQLNamedLockTemplate(final JdbcTemplate jdbcTemplate, final Configuration configuration, final int discriminator) {
         this.jdbcTemplate = jdbcTemplate;
+        this.configuration = configuration;
         lockName = "Flyway-" + discriminator;
     }
 
@@ -80,9 +92,12 @@ public class MySQLNamedLockTemplate {
     }
 
     private void lock() throws SQLException {
+        final BackoffStrategy backoffStrategy = configuration.getPluginRegister()
+            .getExact(LockRetryConfigurationExtension.class)
+            .createBackoffStrategy(INITIAL_WAIT_MILLIS);
         while (!tryLock()) {
             try {
-                Thread.sleep(100L);
+                Thread.sleep(backoffStrategy.nextWithJitter());
             } catch (InterruptedException e) {
                 throw new FlywayException("Interrupted while attempting to acquire MySQL named lock: " + lockName, e);
             }
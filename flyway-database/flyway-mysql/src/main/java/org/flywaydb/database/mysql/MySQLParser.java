@@ -68,6 +68,18 @@ public class MySQLParser extends Parser {
         return '`';
     }
 
+    @Override
+    protected int getMaxCoalescedInsertRows() {
+        // Only bounded by the size of the statement, see below
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    protected long getMaxCoalescedInsertBytes() {
+        // Fits max_allowed_packet at its default on any version: 4 MB on MySQL 5.7, and 1 MB on some older versions
+        return 1024 * 1024;
+    }
+
     @Override
     protected char getAlternativeStringLiteralQuote() {
         return '"';
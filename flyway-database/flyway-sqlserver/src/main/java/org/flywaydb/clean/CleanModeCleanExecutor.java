@@ -59,14 +59,14 @@ public class CleanModeCleanExecutor extends CleanExecutor {
     }
 
     @Override
-    protected void doCleanSchema(final Schema schema) {
+    protected void doCleanSchema(final Connection schemaConnection, final Schema schema) {
         if (Mode.ALL.name().equalsIgnoreCase(cleanMode)) {
             new PlainExecutionTemplate(true).execute(() -> {
                 schema.clean();
                 return null;
             });
         } else {
-            super.doCleanSchema(schema);
+            super.doCleanSchema(schemaConnection, schema);
         }
     }
 }
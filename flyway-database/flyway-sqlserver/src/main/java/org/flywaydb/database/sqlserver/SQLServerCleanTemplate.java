@@ -0,0 +1,154 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-core
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.database.sqlserver;
+
+import org.flywaydb.core.internal.command.clean.CleanTemplate;
+import org.flywaydb.core.internal.exception.FlywaySqlException;
+import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
+import org.flywaydb.core.internal.jdbc.JdbcTemplate;
+import org.flywaydb.core.internal.jdbc.JdbcUtils;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SQL Server implementation of CleanTemplate. The template is a database snapshot, which the database is reverted to
+ * with RESTORE DATABASE ... FROM DATABASE_SNAPSHOT. As the database can't be reverted by a connection to it, this
+ * switches to master first.
+ */
+public class SQLServerCleanTemplate implements CleanTemplate {
+    private static final String TEMPLATE_INFIX = "_flyway_";
+
+    private final SQLServerDatabase database;
+    private final JdbcConnectionFactory jdbcConnectionFactory;
+    private final String catalog;
+    private final String key;
+    private final String name;
+
+    /**
+     * @param database              The database to create the template of.
+     * @param jdbcConnectionFactory The factory for connections to the database.
+     * @param catalog               The name of the database.
+     * @param key                   Identifies the migrations the template is created by.
+     */
+    SQLServerCleanTemplate(final SQLServerDatabase database,
+        final JdbcConnectionFactory jdbcConnectionFactory,
+        final String catalog,
+        final String key) {
+        this.database = database;
+        this.jdbcConnectionFactory = jdbcConnectionFactory;
+        this.catalog = catalog;
+        this.key = key;
+        this.name = catalog + TEMPLATE_INFIX + key;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean exists() {
+        return execute(this::templateExists, "Unable to check for clean template " + name);
+    }
+
+    @Override
+    public void restore() {
+        execute(jdbcTemplate -> {
+            jdbcTemplate.execute("ALTER DATABASE "
+                + database.quote(catalog)
+                + " SET SINGLE_USER WITH ROLLBACK IMMEDIATE");
+            try {
+                jdbcTemplate.execute("RESTORE DATABASE "
+                    + database.quote(catalog)
+                    + " FROM DATABASE_SNAPSHOT = "
+                    + toLiteral(name));
+            } finally {
+                jdbcTemplate.execute("ALTER DATABASE " + database.quote(catalog) + " SET MULTI_USER");
+            }
+            return null;
+        }, "Unable to restore database " + catalog + " from clean template " + name);
+    }
+
+    @Override
+    public void save() {
+        execute(jdbcTemplate -> {
+            // A database can only be reverted while it has a single snapshot, and templates of earlier migrations won't
+            // be used anymore
+            for (final String template : jdbcTemplate.queryForStringList(
+                "SELECT name FROM sys.databases WHERE source_database_id = DB_ID(?) AND LEFT(name, "
+                    + (catalog.length() + TEMPLATE_INFIX.length())
+                    + ") = ?",
+                catalog,
+                catalog + TEMPLATE_INFIX)) {
+                jdbcTemplate.execute("DROP DATABASE " + database.quote(template));
+            }
+
+            final List<String> files = new ArrayList<>();
+            for (final Map<String, String> file : jdbcTemplate.queryForList(
+                "SELECT name, physical_name FROM sys.master_files WHERE database_id = DB_ID(?) AND type = 0",
+                catalog)) {
+                files.add("(NAME = "
+                    + database.quote(file.get("name"))
+                    + ", FILENAME = "
+                    + toLiteral(file.get("physical_name") + "." + key + ".ss")
+                    + ")");
+            }
+            jdbcTemplate.execute("CREATE DATABASE "
+                + database.quote(name)
+                + " ON "
+                + String.join(", ", files)
+                + " AS SNAPSHOT OF "
+                + database.quote(catalog));
+            return null;
+        }, "Unable to create clean template " + name);
+    }
+
+    private boolean templateExists(final JdbcTemplate jdbcTemplate) throws SQLException {
+        return jdbcTemplate.queryForInt(
+            "SELECT COUNT(*) FROM sys.databases WHERE name = ? AND source_database_id = DB_ID(?)",
+            name,
+            catalog) > 0;
+    }
+
+    private static String toLiteral(final String value) {
+        return "N'" + value.replace("'", "''") + "'";
+    }
+
+    private <T> T execute(final MasterCallback<T> callback, final String errorMessage) {
+        final Connection connection = jdbcConnectionFactory.openConnection();
+        try {
+            final JdbcTemplate jdbcTemplate = new JdbcTemplate(connection, database.getDatabaseType());
+            jdbcTemplate.execute("USE master");
+            return callback.execute(jdbcTemplate);
+        } catch (final SQLException e) {
+            throw new FlywaySqlException(errorMessage, e);
+        } finally {
+            JdbcUtils.closeConnection(connection);
+        }
+    }
+
+    private interface MasterCallback<T> {
+        T execute(JdbcTemplate jdbcTemplate) throws SQLException;
+    }
+}
@@ -27,6 +27,7 @@ import org.flywaydb.core.api.configuration.Configuration;
 import org.flywaydb.core.extensibility.CleanModePlugin;
 import org.flywaydb.core.extensibility.Tier;
 import org.flywaydb.core.internal.command.clean.CleanModel.Mode;
+import org.flywaydb.core.internal.command.clean.CleanTemplate;
 import org.flywaydb.core.internal.configuration.ConfigUtils;
 import org.flywaydb.core.internal.database.base.Database;
 import org.flywaydb.core.internal.database.base.Schema;
@@ -123,6 +124,11 @@ public class SQLServerDatabase extends Database<SQLServerConnection> {
         return getMainConnection().getJdbcTemplate().queryForString("SELECT SUSER_SNAME()");
     }
 
+    @Override
+    public CleanTemplate getCleanTemplate(final String key) {
+        return new SQLServerCleanTemplate(this, jdbcConnectionFactory, getCatalog(), key);
+    }
+
     @Override
     public boolean supportsDdlTransactions() {
         return true;
@@ -57,6 +57,12 @@ public class SQLServerParser extends Parser {
         return Delimiter.GO;
     }
 
+    @Override
+    protected int getMaxCoalescedInsertRows() {
+        // A table value constructor is limited to 1000 rows
+        return 1000;
+    }
+
     @Override
     protected boolean isDelimiter(final String peek,
         final ParserContext context,
@@ -210,17 +210,11 @@ public class SQLServerSchema extends Schema<SQLServerDatabase, SQLServerTable> {
             executeIgnoringDependencyErrors(statement);
         }
 
-        for (final String statement : getCleanStatementsBeforeFirstTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            jdbcTemplate.execute(statement);
-        }
+        executeDropStatements(getCleanStatementsBeforeFirstTableDrop(queryDBObjects(ObjectType.USER_TABLE)));
         dropTablesIgnoringErrors(allTables());
-        for (final String statement : getCleanStatementsBeforeSecondTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            jdbcTemplate.execute(statement);
-        }
+        executeDropStatements(getCleanStatementsBeforeSecondTableDrop(queryDBObjects(ObjectType.USER_TABLE)));
         dropTables(allTables());
-        for (final String statement : getCleanStatementsAfterLastTableDrop(queryDBObjects(ObjectType.USER_TABLE))) {
-            jdbcTemplate.execute(statement);
-        }
+        executeDropStatements(getCleanStatementsAfterLastTableDrop(queryDBObjects(ObjectType.USER_TABLE)));
     }
 
     private List<String> getCleanStatementsBeforeFirstTableDrop(final List<DBObject> tables) throws SQLException {
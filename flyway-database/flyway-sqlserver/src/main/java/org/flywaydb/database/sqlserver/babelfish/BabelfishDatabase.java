@@ -22,6 +22,7 @@ package org.flywaydb.database.sqlserver.babelfish;
 import org.flywaydb.database.sqlserver.SQLServerDatabase;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.command.clean.CleanTemplate;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
 
@@ -33,6 +34,12 @@ public class BabelfishDatabase extends SQLServerDatabase {
         super(configuration, jdbcConnectionFactory, statementInterceptor);
     }
 
+    @Override
+    public CleanTemplate getCleanTemplate(final String key) {
+        // Database snapshots aren't available
+        return null;
+    }
+
     @Override
     protected String computeVersionDisplayName(final MigrationVersion version) {
         return "Babelfish";
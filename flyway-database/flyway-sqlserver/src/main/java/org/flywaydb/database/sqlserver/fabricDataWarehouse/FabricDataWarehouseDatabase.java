@@ -25,6 +25,7 @@ import java.sql.Connection;
 import java.util.Date;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.command.clean.CleanTemplate;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
@@ -44,6 +45,12 @@ public class FabricDataWarehouseDatabase extends SQLServerDatabase {
         return new FabricDataWarehouseConnection(this, connection);
     }
 
+    @Override
+    public CleanTemplate getCleanTemplate(final String key) {
+        // Database snapshots aren't available
+        return null;
+    }
+
     @Override
     protected String computeVersionDisplayName(final MigrationVersion version) {
         return getVersion().getMajorAsString();
@@ -38,7 +38,7 @@ public class FabricDataWarehouseTable extends SQLServerTable {
         final SQLServerSchema schema,
         final String name) {
         super(jdbcTemplate, database, databaseName, schema, name);
-        this.insertRowLock = new InsertRowLock(jdbcTemplate);
+        this.insertRowLock = new InsertRowLock(jdbcTemplate, database.getConfiguration());
     }
 
     @Override
@@ -23,6 +23,7 @@ import org.flywaydb.database.sqlserver.SQLServerConnection;
 import org.flywaydb.database.sqlserver.SQLServerDatabase;
 import org.flywaydb.core.api.MigrationVersion;
 import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.internal.command.clean.CleanTemplate;
 import org.flywaydb.core.internal.database.base.Table;
 import org.flywaydb.core.internal.jdbc.JdbcConnectionFactory;
 import org.flywaydb.core.internal.jdbc.StatementInterceptor;
@@ -43,6 +44,12 @@ public class SynapseDatabase extends SQLServerDatabase {
         return new SynapseConnection(this, connection);
     }
 
+    @Override
+    public CleanTemplate getCleanTemplate(final String key) {
+        // Database snapshots aren't available
+        return null;
+    }
+
     @Override
     protected String computeVersionDisplayName(final MigrationVersion version) {
         return "Azure Synapse v" + getVersion().getMajorAsString();
@@ -39,7 +39,7 @@ public class SynapseTable extends SQLServerTable {
         final SQLServerSchema schema,
         final String name) {
         super(jdbcTemplate, database, databaseName, schema, name);
-        this.insertRowLock = new InsertRowLock(jdbcTemplate);
+        this.insertRowLock = new InsertRowLock(jdbcTemplate, database.getConfiguration());
     }
 
     @Override
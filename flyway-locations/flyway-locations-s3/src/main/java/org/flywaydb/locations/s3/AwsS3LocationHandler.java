@@ -46,7 +46,8 @@ public class AwsS3LocationHandler implements ReadWriteLocationHandler {
         final FeatureDetector detector = new FeatureDetector(configuration.getClassLoader());
         if (detector.isAwsAvailable()) {
             return new AwsS3Scanner(configuration.getEncoding(),
-                configuration.isFailOnMissingLocations()).scanForResources(location);
+                configuration.isFailOnMissingLocations(),
+                configuration.isStream()).scanForResources(location);
         } else {
             LOG.error("Can't read location " + location + "; AWS SDK not found");
             return Collections.emptyList();
@@ -57,8 +58,9 @@ public class AwsS3LocationHandler implements ReadWriteLocationHandler {
     public Optional<LoadableResource> getResource(final Location location, final Configuration configuration) {
         final FeatureDetector detector = new FeatureDetector(configuration.getClassLoader());
         if (detector.isAwsAvailable()) {
-            return new AwsS3Scanner(configuration.getEncoding(), configuration.isFailOnMissingLocations()).getResource(
-                location);
+            return new AwsS3Scanner(configuration.getEncoding(),
+                configuration.isFailOnMissingLocations(),
+                configuration.isStream()).getResource(location);
         } else {
             throw new FlywayException("Can't read location " + location + "; AWS SDK not found", CoreErrorCode.ERROR);
         }
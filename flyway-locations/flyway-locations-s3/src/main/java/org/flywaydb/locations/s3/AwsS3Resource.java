@@ -39,6 +39,7 @@ public class AwsS3Resource extends LoadableResource {
     private final String bucketName;
     private final S3Object s3ObjectSummary;
     private final Charset encoding;
+    private final boolean stream;
 
     @Override
     public Reader read() {
@@ -56,6 +57,12 @@ public class AwsS3Resource extends LoadableResource {
         }
     }
 
+    @Override
+    public boolean shouldStream() {
+        final Long size = s3ObjectSummary.size();
+        return stream && (size == null || size > STREAM_MINIMUM_THRESHOLD);
+    }
+
     @Override
     public String getAbsolutePath() {
         return (bucketName + "/") + s3ObjectSummary.key();
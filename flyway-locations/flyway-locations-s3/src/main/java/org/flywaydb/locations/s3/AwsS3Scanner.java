@@ -42,6 +42,7 @@ import software.amazon.awssdk.services.s3.model.S3Object;
 @CustomLog
 public class AwsS3Scanner extends CloudScanner {
     private final boolean throwOnMissingLocations;
+    private final boolean stream;
 
     /**
      * Creates a new AWS S3 scanner.
@@ -50,8 +51,20 @@ public class AwsS3Scanner extends CloudScanner {
      * @param throwOnMissingLocations whether to throw on missing locations.
      */
     public AwsS3Scanner(final Charset encoding, final boolean throwOnMissingLocations) {
+        this(encoding, throwOnMissingLocations, false);
+    }
+
+    /**
+     * Creates a new AWS S3 scanner.
+     *
+     * @param encoding                The encoding to use.
+     * @param throwOnMissingLocations whether to throw on missing locations.
+     * @param stream                  whether to stream SQL migrations from S3 instead of loading them fully in memory.
+     */
+    public AwsS3Scanner(final Charset encoding, final boolean throwOnMissingLocations, final boolean stream) {
         super(encoding);
         this.throwOnMissingLocations = throwOnMissingLocations;
+        this.stream = stream;
     }
 
     /**
@@ -106,7 +119,7 @@ public class AwsS3Scanner extends CloudScanner {
                     .stream()
                     .filter(obj -> obj.key().equals(s3Uri.key().orElse(null)))
                     .findFirst()
-                    .map(x -> new AwsS3Resource(bucketName, x, encoding));
+                    .map(x -> new AwsS3Resource(bucketName, x, encoding, stream));
             } catch (final SdkClientException e) {
 
                 throw new FlywayException("Could not access s3 location:"
@@ -126,7 +139,7 @@ public class AwsS3Scanner extends CloudScanner {
         final Collection<LoadableResource> resources = new TreeSet<>();
         for (final S3Object objectSummary : objectSummaries) {
             LOG.debug("Found Amazon S3 resource: " + (bucketName + "/") + objectSummary.key());
-            resources.add(new AwsS3Resource(bucketName, objectSummary, encoding));
+            resources.add(new AwsS3Resource(bucketName, objectSummary, encoding, stream));
         }
         return resources;
     }
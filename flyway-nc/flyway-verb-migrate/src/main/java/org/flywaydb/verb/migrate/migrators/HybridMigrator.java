@@ -30,12 +30,18 @@ import org.flywaydb.nc.callbacks.CallbackManager;
 import org.flywaydb.verb.migrate.MigrationExecutionGroup;
 
 public class HybridMigrator extends Migrator<NativeConnectorsHybrid> {
+    // Kept between creating and executing groups so that state such as parsed statements is shared
+    private Migrator migrator;
+
     private Migrator getMigrator(final NativeConnectorsHybrid database) {
-        return switch (database.getDatabaseMetaData().connectionType()) {
-            case API -> new ApiMigrator();
-            case JDBC -> new JdbcMigrator();
-            case EXECUTABLE -> new ExecutableMigrator();
-        };
+        if (migrator == null) {
+            migrator = switch (database.getDatabaseMetaData().connectionType()) {
+                case API -> new ApiMigrator();
+                case JDBC -> new JdbcMigrator();
+                case EXECUTABLE -> new ExecutableMigrator();
+            };
+        }
+        return migrator;
     }
 
     @Override
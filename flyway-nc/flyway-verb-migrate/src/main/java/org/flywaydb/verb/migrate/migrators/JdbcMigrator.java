@@ -56,10 +56,12 @@ import org.flywaydb.core.internal.nc.Executor;
 import org.flywaydb.nc.executors.ExecutorFactory;
 import org.flywaydb.verb.migrate.MigrationExecutionGroup;
 import org.flywaydb.core.internal.nc.Reader;
+import org.flywaydb.nc.readers.JdbcReader;
 import org.flywaydb.nc.readers.ReaderFactory;
 
 @CustomLog
 public class JdbcMigrator extends Migrator<NativeConnectorsJdbc> {
+    private final ParsedStatementCache statementCache = new ParsedStatementCache();
 
     @Override
     public List<MigrationExecutionGroup> createGroups(final MigrationInfo[] allPendingMigrations,
@@ -217,11 +219,16 @@ public class JdbcMigrator extends Migrator<NativeConnectorsJdbc> {
                 }
 
                 if (migrationInfo instanceof final LoadableMigrationInfo loadableMigrationInfo) {
-                    final Stream<SqlStatement> executionUnits = reader.read(configuration,
-                        database,
-                        parsingContext,
-                        loadableMigrationInfo.getLoadableResource(),
-                        loadableMigrationInfo.getSqlScriptMetadata());
+                    final List<SqlStatement> parsedStatements = reader instanceof JdbcReader
+                        ? statementCache.remove(loadableMigrationInfo)
+                        : null;
+                    final Stream<SqlStatement> executionUnits = parsedStatements != null
+                        ? parsedStatements.stream()
+                        : reader.read(configuration,
+                            database,
+                            parsingContext,
+                            loadableMigrationInfo.getLoadableResource(),
+                            loadableMigrationInfo.getSqlScriptMetadata());
 
                     executionUnits.forEach(x -> {
                         sqlStatement.set(x);
@@ -311,9 +318,11 @@ public class JdbcMigrator extends Migrator<NativeConnectorsJdbc> {
         final Configuration configuration,
         final LoadableMigrationInfo loadableMigrationInfo,
         final ParsingContext parsingContext) {
-        final Parser parser = (Parser) database.getParser().apply(configuration, parsingContext);
-        final SqlScriptMetadata metadata = loadableMigrationInfo.getSqlScriptMetadata();
-        return parser.parse(loadableMigrationInfo.getLoadableResource(), metadata);
+        return statementCache.getStatements(loadableMigrationInfo, () -> {
+            final Parser parser = (Parser) database.getParser().apply(configuration, parsingContext);
+            final SqlScriptMetadata metadata = loadableMigrationInfo.getSqlScriptMetadata();
+            return parser.parse(loadableMigrationInfo.getLoadableResource(), metadata);
+        });
     }
 
     private void handleMigrationError(final FlywayException e,
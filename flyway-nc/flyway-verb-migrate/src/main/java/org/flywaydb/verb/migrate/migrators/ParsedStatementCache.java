@@ -0,0 +1,132 @@
+/*-
+ * ========================LICENSE_START=================================
+ * flyway-verb-migrate
+ * ========================================================================
+ * Copyright (C) 2010 - 2026 Red Gate Software Ltd
+ * ========================================================================
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * =========================LICENSE_END==================================
+ */
+package org.flywaydb.verb.migrate.migrators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import lombok.CustomLog;
+import org.flywaydb.core.api.LoadableMigrationInfo;
+import org.flywaydb.core.internal.sqlscript.SqlStatement;
+import org.flywaydb.core.internal.sqlscript.SqlStatementIterator;
+
+/**
+ * Statements parsed from migrations during a single migrate, so that deciding whether a migration can run in a
+ * transaction and executing it don't each tokenise the script again. The cache is bounded by the total size of the
+ * statements it holds; scripts which don't fit, or which are large enough to be streamed, are parsed again when needed.
+ */
+@CustomLog
+class ParsedStatementCache {
+    /**
+     * The maximum number of characters of SQL to hold across all cached scripts.
+     */
+    private static final long MAX_CACHED_CHARACTERS = 16L * 1024 * 1024;
+
+    private final Map<LoadableMigrationInfo, List<SqlStatement>> statements = new IdentityHashMap<>();
+    private final Set<LoadableMigrationInfo> uncacheable = Collections.newSetFromMap(new IdentityHashMap<>());
+    private long cachedCharacters;
+
+    /**
+     * Iterates over the statements of this migration, parsing it with this parser only if it isn't cached yet.
+     */
+    SqlStatementIterator getStatements(final LoadableMigrationInfo migrationInfo,
+        final Supplier<SqlStatementIterator> parser) {
+        final List<SqlStatement> cached = statements.get(migrationInfo);
+        if (cached != null) {
+            return new CachedStatementIterator(cached.iterator(), null);
+        }
+
+        final SqlStatementIterator parsed = parser.get();
+        if (uncacheable.contains(migrationInfo) || migrationInfo.getLoadableResource().shouldStream()) {
+            return parsed;
+        }
+
+        final List<SqlStatement> parsedStatements = new ArrayList<>();
+        long characters = 0;
+        try {
+            while (parsed.hasNext()) {
+                final SqlStatement sqlStatement = parsed.next();
+                parsedStatements.add(sqlStatement);
+                characters += sqlStatement.getSql().length();
+                if (cachedCharacters + characters > MAX_CACHED_CHARACTERS) {
+                    LOG.debug("Not caching statements of " + migrationInfo.getScript() + " as it is too large");
+                    uncacheable.add(migrationInfo);
+                    // Hand out what was parsed so far and continue from where parsing stopped
+                    return new CachedStatementIterator(parsedStatements.iterator(), parsed);
+                }
+            }
+        } catch (final RuntimeException e) {
+            parsed.close();
+            throw e;
+        }
+        parsed.close();
+
+        statements.put(migrationInfo, parsedStatements);
+        cachedCharacters += characters;
+        return new CachedStatementIterator(parsedStatements.iterator(), null);
+    }
+
+    /**
+     * Removes the statements of this migration from the cache, typically because it is about to be executed.
+     *
+     * @return The cached statements, or {@code null} if they aren't cached.
+     */
+    List<SqlStatement> remove(final LoadableMigrationInfo migrationInfo) {
+        final List<SqlStatement> removed = statements.remove(migrationInfo);
+        if (removed != null) {
+            for (final SqlStatement sqlStatement : removed) {
+                cachedCharacters -= sqlStatement.getSql().length();
+            }
+        }
+        return removed;
+    }
+
+    private static class CachedStatementIterator implements SqlStatementIterator {
+        private final Iterator<SqlStatement> cached;
+        private final SqlStatementIterator remaining;
+
+        private CachedStatementIterator(final Iterator<SqlStatement> cached, final SqlStatementIterator remaining) {
+            this.cached = cached;
+            this.remaining = remaining;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return cached.hasNext() || (remaining != null && remaining.hasNext());
+        }
+
+        @Override
+        public SqlStatement next() {
+            return cached.hasNext() ? cached.next() : remaining.next();
+        }
+
+        @Override
+        public void close() {
+            if (remaining != null) {
+                remaining.close();
+            }
+        }
+    }
+}